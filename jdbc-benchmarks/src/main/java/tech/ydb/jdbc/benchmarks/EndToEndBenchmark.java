@@ -0,0 +1,118 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Optional end-to-end suite, requires a running YDB instance. By default it connects to the local docker image
+ * {@code jdbc:ydb:grpc://localhost:2136/local}, another database may be passed by {@code -Dydb.benchmark.url=...}
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EndToEndBenchmark {
+    private static final String URL_PROPERTY = "ydb.benchmark.url";
+    private static final String DEFAULT_URL = "jdbc:ydb:grpc://localhost:2136/local";
+    private static final String TABLE = "jdbc_benchmark";
+    private static final int ROWS_COUNT = 10000;
+
+    @Param({ "100" })
+    private int batchSize;
+
+    private Connection connection;
+    private PreparedStatement select;
+    private PreparedStatement selectAll;
+    private PreparedStatement upsert;
+    private long nextId = ROWS_COUNT;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty(URL_PROPERTY, DEFAULT_URL));
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+            st.execute("CREATE TABLE " + TABLE + "(id Int64 NOT NULL, name Text, amount Double, PRIMARY KEY(id))");
+        }
+
+        upsert = connection.prepareStatement("UPSERT INTO " + TABLE + "(id, name, amount) VALUES (?, ?, ?)");
+        for (int idx = 0; idx < ROWS_COUNT; idx += 1) {
+            upsert.setLong(1, idx);
+            upsert.setString(2, "name-" + idx);
+            upsert.setDouble(3, idx * 0.5d);
+            upsert.addBatch();
+            if ((idx + 1) % 1000 == 0) {
+                upsert.executeBatch();
+            }
+        }
+
+        select = connection.prepareStatement("SELECT id, name, amount FROM " + TABLE + " WHERE id = ?");
+        selectAll = connection.prepareStatement("SELECT id, name, amount FROM " + TABLE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void selectByKey(Blackhole bh) throws SQLException {
+        select.setLong(1, nextId++ % ROWS_COUNT);
+        try (ResultSet rs = select.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(2));
+                bh.consume(rs.getDouble(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public void selectAll(Blackhole bh) throws SQLException {
+        try (ResultSet rs = selectAll.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(2));
+                bh.consume(rs.getDouble(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] upsertBatch() throws SQLException {
+        for (int idx = 0; idx < batchSize; idx += 1) {
+            long id = nextId++ % ROWS_COUNT;
+            upsert.setLong(1, id);
+            upsert.setString(2, "updated-" + id);
+            upsert.setDouble(3, id * 0.25d);
+            upsert.addBatch();
+        }
+        return upsert.executeBatch();
+    }
+}
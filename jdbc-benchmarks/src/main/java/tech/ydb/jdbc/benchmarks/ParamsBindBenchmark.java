@@ -0,0 +1,142 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.BatchedQuery;
+import tech.ydb.jdbc.query.params.ValueFactory;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Value;
+
+/**
+ * Binding of parameters and batching of rows. Run {@code addBatchRows} with {@code -prof gc}, the
+ * {@code gc.alloc.rate.norm} metric divided by {@code batchSize} shows allocated bytes per batched row.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParamsBindBenchmark {
+    private static final String UPSERT = "UPSERT INTO accounts(id, name, amount, created, payload) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final YdbTypes TYPES = new YdbTypes(false, DecimalType.getDefault());
+
+    @State(Scope.Thread)
+    public static class ValueState {
+        private final TypeDescription int64 = TYPES.find(PrimitiveType.Int64.makeOptional());
+        private final TypeDescription text = TYPES.find(PrimitiveType.Text.makeOptional());
+        private final TypeDescription bytes = TYPES.find(PrimitiveType.Bytes.makeOptional());
+        private final TypeDescription timestamp = TYPES.find(PrimitiveType.Timestamp.makeOptional());
+        private final TypeDescription decimal = TYPES.find(DecimalType.getDefault().makeOptional());
+
+        private final Long longValue = 1234567890L;
+        private final String textValue = "some text value";
+        private final byte[] bytesValue = new byte[128];
+        private final Timestamp timestampValue = new Timestamp(1700000000000L);
+        private final BigDecimal decimalValue = new BigDecimal("12345.678900000");
+    }
+
+    @State(Scope.Thread)
+    public static class BatchState {
+        @Param({ "1", "100", "1000" })
+        private int batchSize;
+
+        private BatchedQuery query;
+        private byte[] payload;
+
+        @Setup
+        public void setup() throws SQLException {
+            YdbQueryProperties props = new YdbQueryProperties(new Properties());
+            YdbQuery parsed = YdbQuery.parseQuery(new QueryKey(UPSERT), props, TYPES);
+
+            TableDescription description = TableDescription.newBuilder()
+                    .addNonnullColumn("id", PrimitiveType.Int64)
+                    .addNullableColumn("name", PrimitiveType.Text)
+                    .addNullableColumn("amount", PrimitiveType.Double)
+                    .addNullableColumn("created", PrimitiveType.Timestamp)
+                    .addNullableColumn("payload", PrimitiveType.Bytes)
+                    .setPrimaryKey("id")
+                    .build();
+
+            query = BatchedQuery.createAutoBatched(TYPES, parsed, description);
+            if (query == null) {
+                throw new IllegalStateException("Query " + UPSERT + " is not batchable");
+            }
+            payload = new byte[64];
+        }
+    }
+
+    @Benchmark
+    public void readValue(ValueState state, Blackhole bh) throws SQLException {
+        bh.consume(ValueFactory.readValue("id", state.longValue, state.int64));
+        bh.consume(ValueFactory.readValue("name", state.textValue, state.text));
+        bh.consume(ValueFactory.readValue("payload", state.bytesValue, state.bytes));
+        bh.consume(ValueFactory.readValue("created", state.timestampValue, state.timestamp));
+        bh.consume(ValueFactory.readValue("amount", state.decimalValue, state.decimal));
+    }
+
+    @Benchmark
+    public Value<?> readNullValue(ValueState state) throws SQLException {
+        return ValueFactory.readValue("name", null, state.text);
+    }
+
+    @Benchmark
+    public int addBatchRows(BatchState state) throws SQLException {
+        BatchedQuery query = state.query;
+        query.clearBatch();
+        for (int idx = 0; idx < state.batchSize; idx += 1) {
+            query.setParam(1, (long) idx, Types.BIGINT);
+            query.setParam(2, "name-" + idx, Types.VARCHAR);
+            query.setParam(3, idx * 0.5d, Types.DOUBLE);
+            query.setParam(4, new Timestamp(1700000000000L + idx), Types.TIMESTAMP);
+            query.setParam(5, state.payload, Types.BINARY);
+            query.addBatch();
+        }
+        return query.batchSize();
+    }
+
+    @Benchmark
+    public List<Params> addBatch(BatchState state) throws SQLException {
+        BatchedQuery query = state.query;
+        query.clearBatch();
+        for (int idx = 0; idx < state.batchSize; idx += 1) {
+            query.setParam(1, (long) idx, Types.BIGINT);
+            query.setParam(2, "name-" + idx, Types.VARCHAR);
+            query.setParam(3, idx * 0.5d, Types.DOUBLE);
+            query.setParam(4, new Timestamp(1700000000000L + idx), Types.TIMESTAMP);
+            query.setParam(5, state.payload, Types.BINARY);
+            query.addBatch();
+        }
+        return query.getBatchParams();
+    }
+}
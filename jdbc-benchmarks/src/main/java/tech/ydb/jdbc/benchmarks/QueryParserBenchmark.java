@@ -0,0 +1,83 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YdbQueryParser;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.values.DecimalType;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParserBenchmark {
+    @Param({ "select", "insert", "upsert_batch", "multi" })
+    private String kind;
+
+    private YdbTypes types;
+    private YdbQueryProperties props;
+    private String sql;
+    private QueryKey key;
+
+    @Setup
+    public void setup() throws SQLException {
+        types = new YdbTypes(false, DecimalType.getDefault());
+        props = new YdbQueryProperties(new Properties());
+
+        switch (kind) {
+            case "select":
+                sql = "SELECT id, name, amount FROM accounts WHERE id = ? AND name LIKE ? -- comment\n"
+                        + "ORDER BY amount DESC LIMIT 100";
+                break;
+            case "insert":
+                sql = "INSERT INTO accounts(id, name, amount, created) VALUES (?, ?, ?, ?)";
+                break;
+            case "upsert_batch":
+                sql = "UPSERT INTO accounts(id, name, amount, created, flags, description) VALUES (?, ?, ?, ?, ?, ?)";
+                break;
+            case "multi":
+                sql = "DECLARE $p AS Int32;\n"
+                        + "/* block comment with 'quotes' and ? */\n"
+                        + "SELECT * FROM accounts WHERE id = $p;\n"
+                        + "UPDATE accounts SET amount = amount + ? WHERE id = ?;\n"
+                        + "DELETE FROM history WHERE created < ? AND name = 'literal ? text';";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown query kind " + kind);
+        }
+        key = new QueryKey(sql);
+    }
+
+    @Benchmark
+    public String parseSQL() throws SQLException {
+        return new YdbQueryParser(types, sql, props).parseSQL();
+    }
+
+    @Benchmark
+    public YdbQuery parseQuery() throws SQLException {
+        return YdbQuery.parseQuery(key, props, types);
+    }
+}
@@ -0,0 +1,158 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.NullValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.jdbc.common.MappingGetters;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.YdbResultSetForwardOnly;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+
+/**
+ * Decoding of a synthetic result set part through the same {@link MappingGetters} path as used by the driver's
+ * result sets. Run {@code readPrimitivesForwardOnly} with {@code -prof gc}: the {@code gc.alloc.rate.norm} metric
+ * must not grow with {@code rowsCount}, the primitive getters of forward only result set don't allocate per row.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetReadBenchmark {
+    // the result set doesn't call the statement, so the stub fails on any call
+    private static final YdbStatement STATEMENT = (YdbStatement) Proxy.newProxyInstance(
+            YdbStatement.class.getClassLoader(), new Class<?>[] { YdbStatement.class }, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            });
+
+    @Param({ "1000", "10000" })
+    private int rowsCount;
+
+    private ValueProtos.ResultSet proto;
+    private ColumnInfo[] columns;
+
+    @Setup
+    public void setup() {
+        Type[] types = new Type[] {
+            PrimitiveType.Int64, PrimitiveType.Int32.makeOptional(), PrimitiveType.Text.makeOptional(),
+            PrimitiveType.Double.makeOptional(), PrimitiveType.Bool.makeOptional(), PrimitiveType.Bytes.makeOptional(),
+        };
+        String[] names = new String[] { "id", "counter", "name", "amount", "flag", "payload" };
+
+        ValueProtos.ResultSet.Builder builder = ValueProtos.ResultSet.newBuilder();
+        for (int idx = 0; idx < types.length; idx += 1) {
+            builder.addColumns(ValueProtos.Column.newBuilder().setName(names[idx]).setType(types[idx].toPb()));
+        }
+
+        byte[] payload = new byte[32];
+        for (int row = 0; row < rowsCount; row += 1) {
+            boolean isNull = row % 10 == 0;
+            ValueProtos.Value.Builder value = ValueProtos.Value.newBuilder();
+            value.addItems(PrimitiveValue.newInt64(row).toPb());
+            value.addItems(isNull ? nullPb() : PrimitiveValue.newInt32(row * 7).makeOptional().toPb());
+            value.addItems(isNull ? nullPb() : PrimitiveValue.newText("name-" + (row % 100)).makeOptional().toPb());
+            value.addItems(isNull ? nullPb() : PrimitiveValue.newDouble(row * 0.25d).makeOptional().toPb());
+            value.addItems(isNull ? nullPb() : PrimitiveValue.newBool(row % 2 == 0).makeOptional().toPb());
+            value.addItems(isNull ? nullPb() : PrimitiveValue.newBytes(payload).makeOptional().toPb());
+            builder.addRows(value);
+        }
+
+        proto = builder.build();
+        YdbTypes ydbTypes = new YdbTypes(false, DecimalType.getDefault());
+        columns = ColumnInfo.fromResultSetReader(ydbTypes, ProtoValueReaders.forResultSet(proto));
+    }
+
+    private static ValueProtos.Value nullPb() {
+        return ValueProtos.Value.newBuilder().setNullFlagValue(NullValue.NULL_VALUE).build();
+    }
+
+    @Benchmark
+    public void readTyped(Blackhole bh) throws SQLException {
+        ResultSetReader rs = ProtoValueReaders.forResultSet(proto);
+        MappingGetters.Getters idGetter = columns[0].getGetters();
+        MappingGetters.Getters counterGetter = columns[1].getGetters();
+        MappingGetters.Getters nameGetter = columns[2].getGetters();
+        MappingGetters.Getters amountGetter = columns[3].getGetters();
+        MappingGetters.Getters flagGetter = columns[4].getGetters();
+        MappingGetters.Getters payloadGetter = columns[5].getGetters();
+
+        while (rs.next()) {
+            bh.consume(idGetter.readLong(rs.getColumn(0)));
+            bh.consume(counterGetter.readInt(rs.getColumn(1)));
+            bh.consume(nameGetter.readString(rs.getColumn(2)));
+            bh.consume(amountGetter.readDouble(rs.getColumn(3)));
+            bh.consume(flagGetter.readBoolean(rs.getColumn(4)));
+            bh.consume(payloadGetter.readBytes(rs.getColumn(5)));
+        }
+    }
+
+    @Benchmark
+    public void readObjects(Blackhole bh) throws SQLException {
+        ResultSetReader rs = ProtoValueReaders.forResultSet(proto);
+        while (rs.next()) {
+            for (int idx = 0; idx < columns.length; idx += 1) {
+                bh.consume(columns[idx].getGetters().readObject(rs.getColumn(idx)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readPrimitivesForwardOnly(Blackhole bh) throws SQLException {
+        ResultSet rs = new SinglePartResultSet(columns, ProtoValueReaders.forResultSet(proto));
+        while (rs.next()) {
+            bh.consume(rs.getLong(1));
+            bh.consume(rs.getInt(2));
+            bh.consume(rs.getDouble(4));
+            bh.consume(rs.getBoolean(5));
+            bh.consume(rs.wasNull());
+        }
+    }
+
+    private static class SinglePartResultSet extends YdbResultSetForwardOnly {
+        private ResultSetReader part;
+
+        SinglePartResultSet(ColumnInfo[] columns, ResultSetReader part) {
+            super(STATEMENT, columns);
+            this.part = part;
+        }
+
+        @Override
+        protected boolean hasNext() {
+            return part != null;
+        }
+
+        @Override
+        protected ResultSetReader readNext() {
+            ResultSetReader next = part;
+            part = null;
+            return next;
+        }
+    }
+}
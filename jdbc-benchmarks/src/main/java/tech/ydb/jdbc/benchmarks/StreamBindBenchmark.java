@@ -0,0 +1,81 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.ydb.jdbc.common.MappingSetters;
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.params.ValueFactory;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Value;
+
+/**
+ * Binding of large stream parameters, the same path as {@code setBinaryStream} and {@code setCharacterStream} of
+ * prepared statement. Run it with {@code -prof gc} and compare {@code gc.alloc.rate.norm} with the size of the value
+ * to get the allocated bytes per one byte of the parameter.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBindBenchmark {
+    private static final YdbTypes TYPES = new YdbTypes(false, DecimalType.getDefault());
+
+    @Param({ "1048576", "20971520" })
+    private int size;
+
+    @Param({ "true", "false" })
+    private boolean declaredLength;
+
+    private final TypeDescription bytes = TYPES.find(PrimitiveType.Bytes.makeOptional());
+    private final TypeDescription text = TYPES.find(PrimitiveType.Text.makeOptional());
+
+    private byte[] binaryData;
+    private char[] textData;
+
+    @Setup
+    public void setup() {
+        binaryData = new byte[size];
+        for (int idx = 0; idx < size; idx += 1) {
+            binaryData[idx] = (byte) idx;
+        }
+        textData = new char[size];
+        Arrays.fill(textData, 'a');
+    }
+
+    @Benchmark
+    public Value<?> bindBinaryStream() throws SQLException {
+        long length = declaredLength ? size : -1;
+        MappingSetters.ByteStream stream = MappingSetters.ByteStream.fromInputStream(
+                new ByteArrayInputStream(binaryData), length);
+        return ValueFactory.readValue("payload", stream, bytes);
+    }
+
+    @Benchmark
+    public Value<?> bindCharacterStream() throws SQLException {
+        long length = declaredLength ? size : -1;
+        MappingSetters.CharStream stream = MappingSetters.CharStream.fromReader(new CharArrayReader(textData), length);
+        return ValueFactory.readValue("text", stream, text);
+    }
+}
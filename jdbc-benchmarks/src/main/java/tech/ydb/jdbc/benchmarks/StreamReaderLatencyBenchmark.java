@@ -0,0 +1,168 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.YdbQueryResultReader;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ * Latency of the handoff between the grpc thread and the consumer of the stream result set. The parts are produced
+ * by a separate thread, so the measured time includes only the thread handoff and must not depend on any polling
+ * interval. Use the percentiles of the sample mode to check the tail latency.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamReaderLatencyBenchmark {
+    private static final YdbTypes TYPES = new YdbTypes(false, DecimalType.getDefault());
+    private static final int FETCH_SIZE = 100;
+
+    private ExecutorService grpcThread;
+    private YdbStatement statement;
+    private YdbQuery query;
+    private ValueProtos.ResultSet part;
+
+    @Setup
+    public void setup() throws SQLException {
+        grpcThread = Executors.newSingleThreadExecutor();
+        statement = (YdbStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { YdbStatement.class }, (proxy, method, args) -> {
+                    if ("getFetchSize".equals(method.getName())) {
+                        return FETCH_SIZE;
+                    }
+                    if (method.getReturnType() == int.class) {
+                        return 0;
+                    }
+                    if (method.getReturnType() == long.class) {
+                        return 0L;
+                    }
+                    if (method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    return null;
+                });
+        query = YdbQuery.parseQuery(new QueryKey("SELECT id FROM stream_table"),
+                new YdbQueryProperties(new Properties()), TYPES);
+
+        ValueProtos.ResultSet.Builder builder = ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder().setName("id").setType(PrimitiveType.Int64.toPb()));
+        for (int row = 0; row < FETCH_SIZE; row += 1) {
+            builder.addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt64(row).toPb()));
+        }
+        part = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        grpcThread.shutdownNow();
+    }
+
+    @Benchmark
+    public long timeToFirstRow() throws SQLException {
+        FakeStream stream = new FakeStream();
+        YdbQueryResultReader reader = new YdbQueryResultReader(TYPES, statement, query);
+        startCall(reader);
+        reader.load(stream);
+
+        grpcThread.execute(() -> stream.onNext(ProtoValueReaders.forResultSet(part)));
+
+        ResultSet rs = reader.getCurrentResultSet();
+        rs.next();
+        long first = rs.getLong(1);
+
+        grpcThread.execute(() -> stream.complete(Status.SUCCESS));
+        reader.close();
+        return first;
+    }
+
+    @Benchmark
+    public long closeAfterCancel() throws SQLException {
+        FakeStream stream = new FakeStream();
+        YdbQueryResultReader reader = new YdbQueryResultReader(TYPES, statement, query);
+        GrpcFlowControl.Call call = startCall(reader);
+        reader.load(stream);
+
+        CompletableFuture<Void> delivered = CompletableFuture.runAsync(() -> {
+            stream.onNext(ProtoValueReaders.forResultSet(part));
+            // the fetch size is reached, so the next message will not be requested
+            call.onMessageRead();
+        }, grpcThread);
+
+        ResultSet rs = reader.getCurrentResultSet();
+        rs.next();
+        long first = rs.getLong(1);
+        delivered.join();
+
+        // the stream is suspended and cancelled by close, cancel is confirmed by the grpc thread
+        reader.close();
+        return first;
+    }
+
+    private static GrpcFlowControl.Call startCall(YdbQueryResultReader reader) {
+        GrpcFlowControl.Call call = reader.newCall(count -> { });
+        call.onStart();
+        return call;
+    }
+
+    private final class FakeStream implements GrpcReadStream<ResultSetReader> {
+        private final CompletableFuture<Status> finish = new CompletableFuture<>();
+        private volatile Observer<ResultSetReader> observer;
+
+        @Override
+        public CompletableFuture<Status> start(Observer<ResultSetReader> streamObserver) {
+            this.observer = streamObserver;
+            return finish;
+        }
+
+        @Override
+        public void cancel() {
+            grpcThread.execute(() -> complete(Status.of(StatusCode.CLIENT_CANCELLED)));
+        }
+
+        void onNext(ResultSetReader rsr) {
+            observer.onNext(rsr);
+        }
+
+        void complete(Status status) {
+            finish.complete(status);
+        }
+    }
+}
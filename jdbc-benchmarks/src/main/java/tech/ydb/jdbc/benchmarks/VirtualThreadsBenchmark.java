@@ -0,0 +1,122 @@
+package tech.ydb.jdbc.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.ydb.jdbc.common.VirtualThreads;
+
+/**
+ * Optional suite, requires a running YDB instance and JDK 21+. One operation runs {@code tasks} concurrent queries,
+ * each one in its own virtual thread and with its own connection, over a small pool of carrier threads. The session
+ * pool is much smaller than the count of tasks, so most of the tasks wait for a session.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Djdk.virtualThreadScheduler.parallelism=4" })
+public class VirtualThreadsBenchmark {
+    private static final String URL_PROPERTY = "ydb.benchmark.url";
+    private static final String DEFAULT_URL = "jdbc:ydb:grpc://localhost:2136/local";
+    private static final String TABLE = "jdbc_vt_benchmark";
+    private static final int ROWS_COUNT = 1000;
+
+    @Param({ "10000" })
+    private int tasks;
+
+    @Param({ "true", "false" })
+    private boolean useVirtualThreads;
+
+    private final AtomicLong nextId = new AtomicLong();
+    private String url;
+    private Connection connection;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        executor = VirtualThreads.newPerTaskExecutor("benchmark-task-");
+        if (executor == null) {
+            throw new IllegalStateException("VirtualThreadsBenchmark requires JDK 21+");
+        }
+
+        url = System.getProperty(URL_PROPERTY, DEFAULT_URL);
+        url += (url.contains("?") ? "&" : "?") + "sessionPoolSizeMax=50&useVirtualThreads=" + useVirtualThreads;
+
+        connection = DriverManager.getConnection(url);
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+            st.execute("CREATE TABLE " + TABLE + "(id Int64 NOT NULL, name Text, PRIMARY KEY(id))");
+        }
+        try (PreparedStatement ps = connection.prepareStatement("UPSERT INTO " + TABLE + "(id, name) VALUES (?, ?)")) {
+            for (int idx = 0; idx < ROWS_COUNT; idx += 1) {
+                ps.setLong(1, idx);
+                ps.setString(2, "name-" + idx);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        executor.shutdown();
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long concurrentQueries() throws Exception {
+        List<Future<String>> futures = new ArrayList<>(tasks);
+        for (int idx = 0; idx < tasks; idx += 1) {
+            futures.add(executor.submit(this::selectByKey));
+        }
+
+        long count = 0;
+        for (Future<String> future : futures) {
+            if (future.get() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String selectByKey() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (PreparedStatement ps = conn.prepareStatement("SELECT name FROM " + TABLE + " WHERE id = ?")) {
+                ps.setLong(1, nextId.getAndIncrement() % ROWS_COUNT);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? rs.getString(1) : null;
+                }
+            }
+        }
+    }
+}
@@ -50,6 +50,9 @@ public final class YdbConst {
             + "unwrap to YdbTransaction";
     public static final String AUTO_COMMIT_TRANSACTION_UNWRAP_UNSUPPORTED = "Cannot unwrap YdbTransaction when "
             + "autoCommit=true";
+    public static final String TABLE_SERVICE_ASYNC_UNSUPPORTED = "TableService mode doesn't support async execution";
+    public static final String ASYNC_EXECUTION_UNSUPPORTED = "Async execution is available only for data queries "
+            + "with autoCommit=true outside of transaction";
 
     public static final String FORWARD_ONLY_MODE = "ResultSet in TYPE_FORWARD_ONLY mode";
     public static final String CUSTOM_SQL_UNSUPPORTED = "PreparedStatement cannot execute custom SQL";
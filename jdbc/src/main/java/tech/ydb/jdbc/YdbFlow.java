@@ -0,0 +1,60 @@
+package tech.ydb.jdbc;
+
+/**
+ * Minimal reactive streams interfaces with the same contract as {@code java.util.concurrent.Flow}. Driver is
+ * compatible with Java 8, so it cannot use Flow directly, but these interfaces can be adapted to Flow or to any
+ * reactive library by simple delegation
+ *
+ * @author Aleksandr Gorshenin
+ */
+public final class YdbFlow {
+    private YdbFlow() { }
+
+    /**
+     * Producer of items, which are received by subscribers only by their demand
+     *
+     * @param <T> type of published items
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+        /**
+         * Adds the subscriber. The subscriber always receives {@link Subscriber#onSubscribe(Subscription)} call
+         * first, the errors of subscribing are reported by {@link Subscriber#onError(Throwable)}
+         *
+         * @param subscriber subscriber to add
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * Receiver of items
+     *
+     * @param <T> type of received items
+     */
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * Link between publisher and subscriber, which controls the flow of items
+     */
+    public interface Subscription {
+        /**
+         * Adds the given number of items to the current unfulfilled demand of the subscription
+         *
+         * @param n the increment of demand, must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops the receiving of items. Items may be still received for a while after the cancelling
+         */
+        void cancel();
+    }
+}
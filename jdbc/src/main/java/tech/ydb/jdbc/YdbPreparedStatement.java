@@ -16,7 +16,9 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.concurrent.CompletionStage;
 
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.values.Type;
 
 public interface YdbPreparedStatement extends YdbStatement, PreparedStatement {
@@ -43,6 +45,50 @@ public interface YdbPreparedStatement extends YdbStatement, PreparedStatement {
      */
     YdbResultSet executeExplainQuery() throws SQLException;
 
+    /**
+     * Execute this query with current parameters and commit the current transaction. In QueryService mode a data
+     * query and the commit are sent by one request, so a transaction of K statements takes K requests instead of K+1
+     *
+     * @return true if the first result is a ResultSet object; false if the first result is an update count or
+     * there is no result
+     * @throws SQLException if query cannot be executed or the transaction cannot be committed
+     */
+    boolean executeAndCommit() throws SQLException;
+
+    /**
+     * Asynchronously execute this query with current parameters in its own transaction, see
+     * {@link #executeQueryAsync(String)}
+     *
+     * @return future with the query result, it completes exceptionally if query cannot be executed
+     */
+    CompletionStage<YdbQueryResult> executeQueryAsync();
+
+    /**
+     * Asynchronously execute this query with current parameters in its own transaction, see
+     * {@link #executeUpdateAsync(String)}
+     *
+     * @return future with the query result, it completes exceptionally if query cannot be executed
+     */
+    CompletionStage<YdbQueryResult> executeUpdateAsync();
+
+    /**
+     * Asynchronously execute the current batch of this statement, see {@link #executeQueryAsync(String)}. The batch
+     * is <b>not atomic</b>: every entry is executed in its own transaction one after another and the first failed
+     * entry stops the execution, but the entries committed before it are not rolled back. The auto-batched query
+     * sends its rows by chunks, every chunk is one entry. The batch is cleared before the method returns
+     *
+     * @return future with the merged result of the batch, it completes exceptionally if batch cannot be executed
+     */
+    @Override
+    CompletionStage<YdbQueryResult> executeBatchAsync();
+
+    /**
+     * Create publisher of the result set parts of this query with current parameters, see
+     * {@link #publishQuery(String)}
+     *
+     * @return publisher of result set parts, errors of the query are reported to the subscriber
+     */
+    YdbFlow.Publisher<ResultSetReader> publishQuery();
 
     @Override
     YdbResultSet executeQuery() throws SQLException;
@@ -2,8 +2,10 @@ package tech.ydb.jdbc;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.CompletionStage;
 
 import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.table.result.ResultSetReader;
 
 public interface YdbStatement extends Statement {
     /**
@@ -33,6 +35,46 @@ public interface YdbStatement extends Statement {
      */
     YdbResultSet executeExplainQuery(String sql) throws SQLException;
 
+    /**
+     * Asynchronously execute data query, which must return at least one result set. Async execution is available
+     * only in auto commit mode, the query is executed in its own transaction and doesn't change the state of this
+     * statement, only the warnings of the query are added to the warnings of this statement. The method closes the
+     * current result of the connection before sending, so it blocks the caller if that result is a stream which is
+     * not completely read yet. The future is completed by the callback executor of the connection, see the option
+     * useVirtualThreads
+     *
+     * @param sql query to execute
+     * @return future with the query result, it completes exceptionally if query cannot be executed
+     */
+    CompletionStage<YdbQueryResult> executeQueryAsync(String sql);
+
+    /**
+     * Asynchronously execute data query, which must not return result sets, see {@link #executeQueryAsync(String)}
+     *
+     * @param sql query to execute
+     * @return future with the query result, it completes exceptionally if query cannot be executed
+     */
+    CompletionStage<YdbQueryResult> executeUpdateAsync(String sql);
+
+    /**
+     * Asynchronously execute current batch, see {@link #executeQueryAsync(String)}. Every entry of the batch is
+     * executed in its own transaction, so the entries committed before the failed one are not rolled back. The batch
+     * is cleared before the method returns
+     *
+     * @return future with the merged result of the batch, it completes exceptionally if batch cannot be executed
+     */
+    CompletionStage<YdbQueryResult> executeBatchAsync();
+
+    /**
+     * Create publisher of the result set parts of the data query. The query is executed by the subscription as
+     * a stream query in its own transaction, the parts are read from the server only by the demand of the subscriber.
+     * Publisher is available only in auto commit mode and supports only one subscriber
+     *
+     * @param sql query to execute
+     * @return publisher of result set parts, errors of the query are reported to the subscriber
+     */
+    YdbFlow.Publisher<ResultSetReader> publishQuery(String sql);
+
     YdbValidator getValidator();
 
     @Override
@@ -35,7 +35,11 @@ import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
 public class MappingSetters {
-    private static final int DEFAULT_BUF_SIZE = 0x800;
+    // streams are read into the buffer of this size which grows up to the declared length, so the declared length
+    // which is much bigger than the stream doesn't cause a huge allocation
+    private static final int PREALLOCATED_CHUNK_SIZE = 64 * 1024;
+    // the maximal size of java array
+    private static final int MAX_BUF_SIZE = Integer.MAX_VALUE - 8;
     private static final BigInteger UINT64_MAX = BigInteger.ONE.shiftLeft(64);
 
     private MappingSetters() { }
@@ -758,6 +762,14 @@ public class MappingSetters {
         throw castNotSupported(type.getKind(), x);
     }
 
+    private static int bufferLimit(long length) {
+        return length >= 0 && length < MAX_BUF_SIZE ? (int) length : MAX_BUF_SIZE;
+    }
+
+    private static int grownBufferSize(int size, int limit) {
+        return (int) Math.min(limit, 2L * size);
+    }
+
     public interface Setters {
         Value<?> toValue(Object value) throws SQLException;
     }
@@ -766,22 +778,23 @@ public class MappingSetters {
         String asString() throws SQLException;
 
         static CharStream fromReader(Reader reader, long length) {
+            // the reader is read directly into the growing buffer without intermediate copies
             return () -> {
                 try {
-                    char[] buf = new char[DEFAULT_BUF_SIZE];
-                    StringBuilder sb = new StringBuilder();
-                    int nRead;
-                    long total = 0;
-                    while ((nRead = reader.read(buf)) != -1) {
-                        total += nRead;
-                        if (length < 0 || total < length) {
-                            sb.append(buf, 0, nRead);
-                        } else {
-                            sb.append(buf, 0, nRead - (int) (total - length));
+                    int limit = bufferLimit(length);
+                    char[] buf = new char[Math.min(limit, PREALLOCATED_CHUNK_SIZE)];
+                    int total = 0;
+                    while (total < limit) {
+                        if (total == buf.length) {
+                            buf = Arrays.copyOf(buf, grownBufferSize(buf.length, limit));
+                        }
+                        int nRead = reader.read(buf, total, buf.length - total);
+                        if (nRead == -1) {
                             break;
                         }
+                        total += nRead;
                     }
-                    return sb.toString();
+                    return new String(buf, 0, total);
                 } catch (IOException e) {
                     throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
                 }
@@ -794,13 +807,34 @@ public class MappingSetters {
 
         @SuppressWarnings("UnstableApiUsage")
         static ByteStream fromInputStream(InputStream stream, long length) {
+            if (length >= 0) {
+                // the buffer grows up to the declared length and is passed to the value as is if the stream isn't
+                // shorter than declared
+                return () -> {
+                    try {
+                        int limit = bufferLimit(length);
+                        byte[] buf = new byte[Math.min(limit, PREALLOCATED_CHUNK_SIZE)];
+                        int total = 0;
+                        while (total < limit) {
+                            if (total == buf.length) {
+                                buf = Arrays.copyOf(buf, grownBufferSize(buf.length, limit));
+                            }
+                            int nRead = ByteStreams.read(stream, buf, total, buf.length - total);
+                            total += nRead;
+                            if (total < buf.length) {
+                                break;
+                            }
+                        }
+                        return total == buf.length ? buf : Arrays.copyOf(buf, total);
+                    } catch (IOException e) {
+                        throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_IS + e.getMessage(), e);
+                    }
+                };
+            }
+
             return () -> {
                 try {
-                    if (length >= 0) {
-                        return ByteStreams.toByteArray(ByteStreams.limit(stream, length));
-                    } else {
-                        return ByteStreams.toByteArray(stream);
-                    }
+                    return ByteStreams.toByteArray(stream);
                 } catch (IOException e) {
                     throw new RuntimeException(YdbConst.CANNOT_LOAD_DATA_FROM_IS + e.getMessage(), e);
                 }
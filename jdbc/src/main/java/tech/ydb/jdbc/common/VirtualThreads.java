@@ -0,0 +1,81 @@
+package tech.ydb.jdbc.common;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Access to virtual threads of JDK 21+. The driver is compiled for Java 8, so the API is called by reflection; on
+ * older JVMs {@link #isSupported()} returns false and the callers have to use platform threads.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class VirtualThreads {
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class.getName());
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method BUILDER_NAME = findMethod("java.lang.Thread$Builder", "name", String.class, long.class);
+    private static final Method BUILDER_FACTORY = findMethod("java.lang.Thread$Builder", "factory");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor",
+            ThreadFactory.class);
+
+    private VirtualThreads() { }
+
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_FACTORY != null;
+    }
+
+    /**
+     * @param namePrefix prefix of thread names, the threads are numbered from zero
+     * @return factory of virtual threads or null if virtual threads are not supported by JVM
+     */
+    public static ThreadFactory newFactory(String namePrefix) {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot create factory of virtual threads", ex);
+            return null;
+        }
+    }
+
+    /**
+     * @param namePrefix prefix of thread names
+     * @return executor starting a new virtual thread for each task or null if virtual threads are not supported
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix) {
+        ThreadFactory factory = newFactory(namePrefix);
+        if (factory == null || NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot create executor of virtual threads", ex);
+            return null;
+        }
+    }
+
+    private static Method findMethod(String className, String name, Class<?>... args) {
+        try {
+            return findMethod(Class.forName(className), name, args);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> clazz, String name, Class<?>... args) {
+        try {
+            return clazz.getMethod(name, args);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
@@ -17,11 +17,17 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.base.Utf8;
+
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.values.DecimalType;
 import tech.ydb.table.values.DecimalValue;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.OptionalValue;
 import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 import tech.ydb.table.values.VoidType;
@@ -304,6 +310,82 @@ public class YdbTypes {
                 defaultDecimal);
     }
 
+    /**
+     * Estimates the serialized size of the value without its serialization. Sizes of strings and byte arrays are
+     * taken from their lengths, sizes of lists and structs are summed from their items.
+     *
+     * @param value value to estimate
+     * @return approximate count of bytes of the value in the request
+     */
+    public static long estimateSize(Value<?> value) {
+        Type type = value.getType();
+        switch (type.getKind()) {
+            case OPTIONAL:
+                OptionalValue optional = value.asOptional();
+                return optional.isPresent() ? 1 + estimateSize(optional.get()) : 2;
+            case PRIMITIVE:
+                return estimatePrimitiveSize((PrimitiveType) type, value.asData());
+            case DECIMAL:
+                return 17;
+            case LIST:
+                ListValue list = value.asList();
+                long listSize = 2;
+                for (int idx = 0; idx < list.size(); idx++) {
+                    listSize += estimateSize(list.get(idx));
+                }
+                return listSize;
+            case STRUCT:
+                StructValue struct = value.asStruct();
+                long structSize = 2;
+                for (int idx = 0; idx < struct.getMembersCount(); idx++) {
+                    structSize += estimateSize(struct.getMemberValue(idx));
+                }
+                return structSize;
+            default:
+                // rare containers are estimated by serialization
+                return value.toPb().getSerializedSize();
+        }
+    }
+
+    private static long estimatePrimitiveSize(PrimitiveType type, PrimitiveValue value) {
+        switch (type) {
+            case Bool:
+            case Int8:
+            case Uint8:
+                return 2;
+            case Int16:
+            case Uint16:
+            case Int32:
+            case Uint32:
+            case Float:
+            case Date:
+            case Date32:
+                return 5;
+            case Int64:
+            case Uint64:
+            case Double:
+            case Datetime:
+            case Timestamp:
+            case Interval:
+            case Datetime64:
+            case Timestamp64:
+            case Interval64:
+                return 9;
+            case Uuid:
+                return 17;
+            case Text:
+                return 5 + Utf8.encodedLength(value.getText());
+            case Json:
+                return 5 + Utf8.encodedLength(value.getJson());
+            case JsonDocument:
+                return 5 + Utf8.encodedLength(value.getJsonDocument());
+            case Bytes:
+                return 5 + value.getBytesUnsafe().length;
+            default:
+                return value.toPb().getSerializedSize();
+        }
+    }
+
     private int getSqlPrecisionImpl(PrimitiveType type) {
         switch (type) {
             case Bool:
@@ -0,0 +1,47 @@
+package tech.ydb.jdbc.context;
+
+/**
+ * Hill climbing of count of rows in one request of split batch. After every executed batch its throughput in rows
+ * per second is compared with the previous one; the count keeps moving in the same direction while the throughput
+ * grows and turns back when it drops. One instance is shared by all statements with the same query text, so the
+ * state survives closing of the statement.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class AdaptiveBatchSplit {
+    static final int INITIAL_ROWS = 1000;
+    static final int MIN_ROWS = 100;
+    static final int MAX_ROWS = 1000000;
+    private static final double STEP = 1.5d;
+
+    private int rows = INITIAL_ROWS;
+    private boolean isGrowing = true;
+    private double lastThroughput = 0;
+
+    public synchronized int getRows() {
+        return rows;
+    }
+
+    /**
+     * @param rowsCount count of rows of executed batch
+     * @param elapsedNanos time of execution of batch
+     */
+    public synchronized void onBatch(int rowsCount, long elapsedNanos) {
+        // the batch without at least one full request says nothing about the size of request
+        if (rowsCount < rows || elapsedNanos <= 0) {
+            return;
+        }
+
+        double throughput = rowsCount * 1e9d / elapsedNanos;
+        if (throughput < lastThroughput) {
+            isGrowing = !isGrowing;
+        }
+        lastThroughput = throughput;
+
+        if (isGrowing) {
+            rows = (int) Math.min(MAX_ROWS, rows * STEP);
+        } else {
+            rows = (int) Math.max(MIN_ROWS, rows / STEP);
+        }
+    }
+}
@@ -5,16 +5,21 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import tech.ydb.core.Status;
 import tech.ydb.core.grpc.GrpcReadStream;
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbFlow;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.ColumnarDecoder;
+import tech.ydb.jdbc.impl.YdbQueryPublisher;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
@@ -36,18 +41,24 @@ import tech.ydb.table.values.ListValue;
 public abstract class BaseYdbExecutor implements YdbExecutor {
     private final Duration sessionTimeout;
     private final TableClient tableClient;
+    private final TableClient readOnlyTableClient;
     private final SessionRetryContext retryCtx;
     private final SessionRetryContext idempotentRetryCtx;
     private final boolean useStreamResultSet;
+    private final SessionPoolController sessionPool;
 
     private final AtomicReference<YdbQueryResult> currResult;
     protected final String prefixPragma;
     protected final YdbTypes types;
+    protected final boolean useColumnarResultSets;
+    protected final boolean useParallelDecoding;
 
     public BaseYdbExecutor(YdbContext ctx) {
         this.sessionTimeout = ctx.getOperationProperties().getSessionTimeout();
         this.useStreamResultSet = ctx.getOperationProperties().getUseStreamResultSets();
         this.tableClient = ctx.getTableClient();
+        this.readOnlyTableClient = ctx.getReadOnlyTableClient();
+        this.sessionPool = ctx.getSessionPoolController();
         this.retryCtx = SessionRetryContext.create(tableClient)
                 .sessionCreationTimeout(ctx.getOperationProperties().getSessionTimeout())
                 .build();
@@ -57,11 +68,34 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                 .build();
         this.prefixPragma = ctx.getPrefixPragma();
         this.types = ctx.getTypes();
+        this.useColumnarResultSets = ctx.getOperationProperties().getUseColumnarResultSets();
+        this.useParallelDecoding = ctx.getOperationProperties().getUseParallelDecoding();
         this.currResult = new AtomicReference<>();
     }
 
     protected Session createNewTableSession(YdbValidator validator) throws SQLException {
-        return validator.call("Get session", null, () -> tableClient.createSession(sessionTimeout));
+        return createNewTableSession(validator, false);
+    }
+
+    protected Session createNewTableSession(YdbValidator validator, boolean readOnly) throws SQLException {
+        if (readOnly && readOnlyTableClient != tableClient) {
+            return validator.call("Get read-only session", null,
+                    () -> readOnlyTableClient.createSession(sessionTimeout));
+        }
+        return validator.call("Get session", null,
+                () -> sessionPool.track(() -> tableClient.createSession(sessionTimeout)));
+    }
+
+    protected YdbResultSetMemory[] createMemoryResultSets(YdbStatement statement, ResultSetReader[] sets) {
+        if (useParallelDecoding) {
+            return YdbResultSetMemory.decodeResultSets(types, statement, sets);
+        }
+
+        YdbResultSetMemory[] readers = new YdbResultSetMemory[sets.length];
+        for (int idx = 0; idx < sets.length; idx += 1) {
+            readers[idx] = new YdbResultSetMemory(types, statement, useColumnarResultSets, sets[idx]);
+        }
+        return readers;
     }
 
     @Override
@@ -139,6 +173,61 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         return updateCurrentResult(new YdbQueryResultStatic(query));
     }
 
+    @Override
+    public CompletableFuture<Status> executeBulkUpsertAsync(YdbStatement statement, String tablePath, ListValue rows)
+            throws SQLException {
+        ensureOpened();
+
+        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        tracer.trace("--> bulk upsert chunk of " + rows.size() + " rows");
+        return idempotentRetryCtx.supplyStatus(session -> session.executeBulkUpsert(tablePath, rows));
+    }
+
+    @Override
+    public YdbQueryResult executeDataQueryAndCommit(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
+        // Default implementation commits the transaction by the separate request
+        YdbQueryResult result = executeDataQuery(statement, query, preparedYql, params);
+        commit(statement.getConnection().getCtx(), statement.getValidator());
+        return result;
+    }
+
+    @Override
+    public List<YdbResultSetMemory[]> executeInMemoryQueries(YdbStatement statement, YdbQuery query,
+            Function<Params, String> queryFunc, List<Params> params, int parallelism) throws SQLException {
+        // Default implementation has no parallel execution, the entries are executed in one transaction as usual
+        List<YdbResultSetMemory[]> results = new ArrayList<>(params.size());
+        boolean autoCommit = isAutoCommit();
+        try {
+            if (autoCommit) {
+                setAutoCommit(false);
+            }
+            for (Params prms: params) {
+                results.add(executeInMemoryQuery(statement, query, queryFunc.apply(prms), prms));
+            }
+            if (autoCommit) {
+                commit(statement.getConnection().getCtx(), statement.getValidator());
+            }
+        } finally {
+            setAutoCommit(autoCommit);
+        }
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<YdbResultSetMemory[]> executeInMemoryQueryAsync(YdbStatement statement, YdbQuery query,
+            String preparedYql, Params params) {
+        CompletableFuture<YdbResultSetMemory[]> future = new CompletableFuture<>();
+        future.completeExceptionally(new SQLFeatureNotSupportedException(YdbConst.TABLE_SERVICE_ASYNC_UNSUPPORTED));
+        return future;
+    }
+
+    @Override
+    public YdbFlow.Publisher<ResultSetReader> publishDataQuery(YdbStatement statement, YdbQuery query,
+            String preparedYql, Params params) {
+        return YdbQueryPublisher.failed(new SQLFeatureNotSupportedException(YdbConst.TABLE_SERVICE_ASYNC_UNSUPPORTED));
+    }
+
     @Override
     public YdbQueryResult executeScanQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
@@ -154,7 +243,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         tracer.trace("--> scan query");
         tracer.query(yql);
 
-        final Session session = createNewTableSession(validator);
+        final Session session = createNewTableSession(validator, true);
 
         if (!useStreamResultSet) {
             try {
@@ -163,13 +252,22 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                         .build();
 
                 List<ResultSetReader> parts = new ArrayList<>();
+                // every part is decoded as soon as it is received, not after the end of stream
+                ColumnarDecoder decoder = useParallelDecoding ? new ColumnarDecoder(types) : null;
 
                 ctx.traceQueryByFullScanDetector(query, yql);
                 validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer,
-                        () -> session.executeScanQuery(yql, params, settings).start(parts::add)
+                        () -> session.executeScanQuery(yql, params, settings).start(rsr -> {
+                            if (decoder != null) {
+                                decoder.onPart(0, rsr);
+                            }
+                            parts.add(rsr);
+                        })
                 );
 
-                YdbResultSet rs = new YdbResultSetMemory(types, statement, parts.toArray(new ResultSetReader[0]));
+                YdbResultSet rs = decoder != null && !parts.isEmpty()
+                        ? decoder.build(statement, 0)
+                        : new YdbResultSetMemory(types, statement, parts.toArray(new ResultSetReader[0]));
                 return updateCurrentResult(new YdbQueryResultStatic(query, rs));
             } finally {
                 session.close();
@@ -177,7 +275,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
             }
         }
 
-        final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+        final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query, useParallelDecoding) {
             @Override
             public void onClose(Status status, Throwable th) {
                 session.close();
@@ -0,0 +1,127 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryCmd;
+import tech.ydb.jdbc.query.QueryStatement;
+import tech.ydb.jdbc.query.QueryType;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YdbQueryParser;
+import tech.ydb.jdbc.spi.YdbQueryExtentionService;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Value;
+
+/**
+ * DML queries of the transaction which are not sent to the server until the commit or the next query with results.
+ * All deferred queries are sent as one multi-statement query, parameters and named expressions of every query get
+ * their own prefix so the queries cannot conflict with each other. The count of queries and the estimated size of
+ * their parameters are limited, so big batches are not merged into one huge request.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class DeferredWrites {
+    static final int MAX_QUERIES = 100;
+    static final long MAX_PARAMS_BYTES = 8 * 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(DeferredWrites.class.getName());
+
+    private final YdbContext ctx;
+    private final StringBuilder yql = new StringBuilder();
+    private final Params params = Params.create();
+    private final List<YdbQueryExtentionService.QueryCall> calls = new ArrayList<>();
+    private long paramsBytes = 0;
+
+    DeferredWrites(YdbContext ctx) {
+        this.ctx = ctx;
+    }
+
+    static boolean isDeferrable(YdbQuery query) {
+        if (query.getType() != QueryType.DATA_QUERY || query.getStatements().isEmpty()) {
+            return false;
+        }
+
+        boolean hasDML = false;
+        for (QueryStatement st: query.getStatements()) {
+            if (st.getType() == QueryType.DECLARE) {
+                continue;
+            }
+            // only plain DML without results, any other statement can depend on the previous ones
+            if (st.getCmd() != QueryCmd.DML || st.hasResults() || st.hasUpdateWithGenerated()) {
+                return false;
+            }
+            hasDML = true;
+        }
+        return hasDML;
+    }
+
+    YdbContext getContext() {
+        return ctx;
+    }
+
+    static long estimateSize(Params prms) {
+        long bytes = 0;
+        for (Map.Entry<String, Value<?>> entry: prms.values().entrySet()) {
+            bytes += entry.getKey().length() + YdbTypes.estimateSize(entry.getValue());
+        }
+        return bytes;
+    }
+
+    boolean isFull() {
+        return calls.size() >= MAX_QUERIES || paramsBytes >= MAX_PARAMS_BYTES;
+    }
+
+    boolean canAdd(long bytes) {
+        return calls.size() < MAX_QUERIES && paramsBytes + bytes <= MAX_PARAMS_BYTES;
+    }
+
+    void add(String preparedYql, Params prms, long bytes, YdbQueryExtentionService.QueryCall call) {
+        String prefix = "w" + calls.size() + "_";
+        for (Map.Entry<String, Value<?>> entry: prms.values().entrySet()) {
+            String name = entry.getKey();
+            String renamed = name.startsWith("$") ? "$" + prefix + name.substring(1) : prefix + name;
+            params.put(renamed, entry.getValue());
+        }
+
+        String text = YdbQueryParser.prefixVariables(preparedYql, prefix).trim();
+        yql.append(text);
+        // new line closes possible line comment at the end of query
+        yql.append(text.endsWith(";") ? "\n" : "\n;\n");
+        calls.add(call);
+        paramsBytes += bytes;
+    }
+
+    /**
+     * Reports to SPI that the deferred queries will never be sent, it is used by the rollback and the close of
+     * the connection.
+     */
+    void cancel() {
+        Status status = Status.of(StatusCode.CLIENT_CANCELLED);
+        for (YdbQueryExtentionService.QueryCall call: calls) {
+            try {
+                call.onQueryResult(status, null);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Query spi onQueryResult problem", ex);
+            }
+        }
+        calls.clear();
+    }
+
+    String getQuery() {
+        return yql.toString();
+    }
+
+    Params getParams() {
+        return params;
+    }
+
+    List<YdbQueryExtentionService.QueryCall> getCalls() {
+        return calls;
+    }
+}
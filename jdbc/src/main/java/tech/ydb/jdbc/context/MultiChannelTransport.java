@@ -0,0 +1,278 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.grpc.MethodDescriptor;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.core.grpc.GrpcReadWriteStream;
+import tech.ydb.core.grpc.GrpcRequestSettings;
+import tech.ydb.core.grpc.GrpcTransport;
+import tech.ydb.core.grpc.GrpcTransportBuilder;
+import tech.ydb.core.impl.SingleChannelTransport;
+
+/**
+ * Transport over several independent gRPC channels to the same endpoint. Every call is sent to the channel with the
+ * least count of active calls, so the load of many threads is not limited by max concurrent streams and flow control
+ * window of one HTTP/2 connection. All channels share one scheduler, which is shut down with the transport.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class MultiChannelTransport implements GrpcTransport {
+    private static final Logger LOGGER = Logger.getLogger(MultiChannelTransport.class.getName());
+
+    private final ScheduledExecutorService scheduler;
+    private final GrpcTransport[] channels;
+    private final AtomicInteger[] inFlight;
+    private final AtomicLong[] calls;
+    private final AtomicInteger nextChannel = new AtomicInteger();
+
+    MultiChannelTransport(List<GrpcTransport> transports, ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        this.channels = transports.toArray(new GrpcTransport[0]);
+        this.inFlight = new AtomicInteger[channels.length];
+        this.calls = new AtomicLong[channels.length];
+        for (int idx = 0; idx < channels.length; idx++) {
+            inFlight[idx] = new AtomicInteger();
+            calls[idx] = new AtomicLong();
+        }
+    }
+
+    static MultiChannelTransport create(GrpcTransportBuilder builder, ScheduledExecutorService scheduler, int count) {
+        // every channel closes its scheduler, so channels get the views which don't shut down the shared one
+        builder.withSchedulerFactory(() -> new ChannelScheduler(scheduler));
+
+        List<GrpcTransport> channels = new ArrayList<>(count);
+        try {
+            for (int idx = 0; idx < count; idx++) {
+                channels.add(new SingleChannelTransport(builder));
+            }
+        } catch (RuntimeException ex) {
+            channels.forEach(GrpcTransport::close);
+            scheduler.shutdownNow();
+            throw ex;
+        }
+        return new MultiChannelTransport(channels, scheduler);
+    }
+
+    public int getChannelsCount() {
+        return channels.length;
+    }
+
+    /**
+     * @param channel index of channel
+     * @return count of active calls and streams of the channel
+     */
+    public int getChannelInFlight(int channel) {
+        return inFlight[channel].get();
+    }
+
+    /**
+     * @param channel index of channel
+     * @return total count of calls and streams sent by the channel
+     */
+    public long getChannelCallsCount(int channel) {
+        return calls[channel].get();
+    }
+
+    @Override
+    public String getDatabase() {
+        return channels[0].getDatabase();
+    }
+
+    @Override
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public <ReqT, RespT> CompletableFuture<Result<RespT>> unaryCall(
+            MethodDescriptor<ReqT, RespT> method, GrpcRequestSettings settings, ReqT request) {
+        int idx = selectChannel();
+        acquireChannel(idx);
+        try {
+            return channels[idx].unaryCall(method, settings, request).whenComplete((res, th) -> releaseChannel(idx));
+        } catch (RuntimeException ex) {
+            releaseChannel(idx);
+            throw ex;
+        }
+    }
+
+    @Override
+    public <ReqT, RespT> GrpcReadStream<RespT> readStreamCall(
+            MethodDescriptor<ReqT, RespT> method, GrpcRequestSettings settings, ReqT request) {
+        // the channel is acquired only by the start of the stream, not started stream doesn't hold the channel
+        int idx = selectChannel();
+        return new ReadStream<>(idx, channels[idx].readStreamCall(method, settings, request));
+    }
+
+    @Override
+    public <ReqT, RespT> GrpcReadWriteStream<RespT, ReqT> readWriteStreamCall(
+            MethodDescriptor<ReqT, RespT> method, GrpcRequestSettings settings) {
+        int idx = selectChannel();
+        return new ReadWriteStream<>(idx, channels[idx].readWriteStreamCall(method, settings));
+    }
+
+    @Override
+    public void close() {
+        for (GrpcTransport channel : channels) {
+            try {
+                channel.close();
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Unable to close channel: " + ex.getMessage(), ex);
+            }
+        }
+        scheduler.shutdown();
+    }
+
+    private int selectChannel() {
+        // start from the next channel on every call, so the channels with equal load are used by turns
+        int start = Math.floorMod(nextChannel.getAndIncrement(), channels.length);
+        int best = start;
+        int bestLoad = inFlight[start].get();
+        for (int step = 1; step < channels.length && bestLoad > 0; step++) {
+            int idx = (start + step) % channels.length;
+            int load = inFlight[idx].get();
+            if (load < bestLoad) {
+                best = idx;
+                bestLoad = load;
+            }
+        }
+
+        return best;
+    }
+
+    private void acquireChannel(int idx) {
+        inFlight[idx].incrementAndGet();
+        calls[idx].incrementAndGet();
+    }
+
+    private void releaseChannel(int idx) {
+        inFlight[idx].decrementAndGet();
+    }
+
+    private class ReadStream<R, S extends GrpcReadStream<R>> implements GrpcReadStream<R> {
+        protected final S stream;
+        private final int channel;
+
+        ReadStream(int channel, S stream) {
+            this.channel = channel;
+            this.stream = stream;
+        }
+
+        @Override
+        public CompletableFuture<Status> start(Observer<R> observer) {
+            acquireChannel(channel);
+            try {
+                return stream.start(observer).whenComplete((status, th) -> releaseChannel(channel));
+            } catch (RuntimeException ex) {
+                releaseChannel(channel);
+                throw ex;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            stream.cancel();
+        }
+    }
+
+    private class ReadWriteStream<R, W> extends ReadStream<R, GrpcReadWriteStream<R, W>>
+            implements GrpcReadWriteStream<R, W> {
+
+        ReadWriteStream(int channel, GrpcReadWriteStream<R, W> stream) {
+            super(channel, stream);
+        }
+
+        @Override
+        public String authToken() {
+            return stream.authToken();
+        }
+
+        @Override
+        public void sendNext(W message) {
+            stream.sendNext(message);
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+        }
+    }
+
+    /**
+     * View of the shared scheduler for one channel, the close of the channel doesn't shut down the shared scheduler
+     */
+    private static class ChannelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+        private final ScheduledExecutorService shared;
+
+        ChannelScheduler(ScheduledExecutorService shared) {
+            this.shared = shared;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return shared.schedule(command, delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return shared.schedule(callable, delay, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            return shared.scheduleAtFixedRate(command, initialDelay, period, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                TimeUnit unit) {
+            return shared.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            shared.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            // the shared scheduler is shut down by the transport
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shared.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shared.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -1,24 +1,41 @@
 package tech.ydb.jdbc.context;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tech.ydb.common.transaction.TxMode;
 import tech.ydb.common.transaction.YdbTransaction;
 import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
 import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcFlowControl;
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbFlow;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTracer;
+import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.exception.YdbStatusable;
+import tech.ydb.jdbc.impl.ColumnarDecoder;
+import tech.ydb.jdbc.impl.YdbQueryPublisher;
 import tech.ydb.jdbc.impl.YdbQueryResultExplain;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
@@ -33,12 +50,14 @@ import tech.ydb.query.QueryStream;
 import tech.ydb.query.QueryTransaction;
 import tech.ydb.query.result.QueryInfo;
 import tech.ydb.query.result.QueryResultPart;
+import tech.ydb.query.result.QueryStats;
 import tech.ydb.query.settings.CommitTransactionSettings;
 import tech.ydb.query.settings.ExecuteQuerySettings;
 import tech.ydb.query.settings.QueryExecMode;
 import tech.ydb.query.settings.RollbackTransactionSettings;
 import tech.ydb.query.tools.QueryReader;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
 
 /**
  *
@@ -49,13 +68,18 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
 
     private final Duration sessionTimeout;
     private final QueryClient queryClient;
+    private final QueryClient readOnlyQueryClient;
+    private final SessionPoolController sessionPool;
+    private final Executor callbackExecutor;
     private final boolean useStreamResultSet;
     private final YdbQueryExtentionService querySpi;
+    private final boolean useDeferredWrites;
 
     private int transactionLevel;
     private boolean isReadOnly;
     private boolean isAutoCommit;
     private TxMode txMode;
+    private DeferredWrites deferredWrites = null;
 
     private final AtomicReference<QueryTransaction> tx = new AtomicReference<>();
     private volatile boolean isClosed;
@@ -65,8 +89,12 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         YdbOperationProperties options = ctx.getOperationProperties();
         this.sessionTimeout = options.getSessionTimeout();
         this.queryClient = ctx.getQueryClient();
+        this.readOnlyQueryClient = ctx.getReadOnlyQueryClient();
+        this.sessionPool = ctx.getSessionPoolController();
+        this.callbackExecutor = ctx.getCallbackExecutor();
         this.useStreamResultSet = options.getUseStreamResultSets();
         this.querySpi = ctx.getQuerySpi();
+        this.useDeferredWrites = options.getUseDeferredWrites();
 
         this.transactionLevel = options.getTransactionLevel();
         this.isAutoCommit = options.isAutoCommit();
@@ -76,14 +104,25 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     }
 
     protected QuerySession createNewQuerySession(YdbValidator validator) throws SQLException {
-        return validator.call("Get query session", null, () -> queryClient.createSession(sessionTimeout));
+        return createNewQuerySession(validator, false);
+    }
+
+    protected QuerySession createNewQuerySession(YdbValidator validator, boolean readOnly) throws SQLException {
+        return validator.call("Get query session", null, () -> createQuerySessionAsync(readOnly));
+    }
+
+    private CompletableFuture<Result<QuerySession>> createQuerySessionAsync(boolean readOnly) {
+        if (readOnly && readOnlyQueryClient != queryClient) {
+            return readOnlyQueryClient.createSession(sessionTimeout);
+        }
+        return sessionPool.track(() -> queryClient.createSession(sessionTimeout));
     }
 
     private QueryTransaction getOrCreateTransaction(YdbValidator validator, boolean lazyTx) throws SQLException {
         QueryTransaction nextTx = tx.get();
         while (nextTx == null) {
             querySpi.onNewTransaction();
-            QuerySession session = createNewQuerySession(validator);
+            QuerySession session = createNewQuerySession(validator, isReadOnly);
 
             if (lazyTx) {
                 nextTx = session.createNewTransaction(txMode);
@@ -104,6 +143,10 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     public void close() throws SQLException {
         clearState();
         isClosed = true;
+        if (deferredWrites != null) {
+            deferredWrites.cancel();
+            deferredWrites = null;
+        }
         QueryTransaction old = tx.getAndSet(null);
         if (old != null) {
             old.getSession().close();
@@ -118,8 +161,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        QueryTransaction localTx = tx.get();
-        if (localTx != null && localTx.isActive()) {
+        if (hasActiveTransaction()) {
             throw new SQLFeatureNotSupportedException(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
         }
 
@@ -139,8 +181,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        QueryTransaction localTx = tx.get();
-        if (localTx != null && localTx.isActive()) {
+        if (hasActiveTransaction()) {
             throw new SQLFeatureNotSupportedException(YdbConst.READONLY_INSIDE_TRANSACTION);
         }
 
@@ -156,8 +197,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        QueryTransaction localTx = tx.get();
-        if (localTx != null && localTx.isActive()) {
+        if (hasActiveTransaction()) {
             throw new SQLFeatureNotSupportedException(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
         }
 
@@ -178,8 +218,13 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     @Override
     public boolean isInsideTransaction() throws SQLException {
         ensureOpened();
+        return hasActiveTransaction();
+    }
+
+    private boolean hasActiveTransaction() {
+        // deferred writes are a part of the transaction even if it is not started on the server yet
         QueryTransaction localTx = tx.get();
-        return localTx != null && localTx.isActive();
+        return (localTx != null && localTx.isActive()) || deferredWrites != null;
     }
 
     @Override
@@ -203,6 +248,8 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     @Override
     public void commit(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
+        // deferred writes are committed by the same request if it is possible
+        flushDeferredWrites(validator, canCommitWithQuery());
 
         QueryTransaction localTx = tx.get();
         if (localTx == null || !localTx.isActive()) {
@@ -219,6 +266,14 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
     }
 
+    /**
+     * @return true if the transaction may be committed by the last query of the transaction instead of the separate
+     * commit request
+     */
+    protected boolean canCommitWithQuery() {
+        return true;
+    }
+
     protected void commitImpl(YdbContext ctx, YdbValidator validator, QueryTransaction tx) throws SQLException {
         YdbTracer tracer = ctx.getTracer();
         tracer.trace("--> commit");
@@ -233,8 +288,18 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     public void rollback(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
 
+        // deferred writes are never sent, SPI gets them as cancelled
+        boolean hasDeferredWrites = deferredWrites != null;
+        if (hasDeferredWrites) {
+            deferredWrites.cancel();
+            deferredWrites = null;
+        }
+
         QueryTransaction localTx = tx.get();
         if (localTx == null || !localTx.isActive()) {
+            if (hasDeferredWrites) {
+                ctx.getTracer().close();
+            }
             return;
         }
 
@@ -256,14 +321,148 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
     }
 
+    private boolean deferWrite(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
+            throws SQLException {
+        if (!useDeferredWrites || isAutoCommit || isReadOnly || !DeferredWrites.isDeferrable(query)) {
+            return false;
+        }
+
+        long bytes = DeferredWrites.estimateSize(params);
+        if (deferredWrites != null && !deferredWrites.canAdd(bytes)) {
+            // big parameters, like the chunks of batches, are not merged to the one huge request
+            flushDeferredWrites(statement.getValidator(), false);
+        }
+
+        YdbContext ctx = statement.getConnection().getCtx();
+        String yql = prefixPragma + preparedYql;
+        // SPI may reject the query, so it is called at the moment of the execution as usual
+        YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
+
+        if (deferredWrites == null) {
+            deferredWrites = new DeferredWrites(ctx);
+        }
+        deferredWrites.add(preparedYql, params, bytes, spi);
+
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> deferred data query");
+        tracer.query(yql);
+
+        if (deferredWrites.isFull()) {
+            flushDeferredWrites(statement.getValidator(), false);
+        }
+        return true;
+    }
+
+    /**
+     * Sends all deferred writes as one query inside of the current transaction. Errors of the deferred queries are
+     * reported here, by the statement which caused the sending.
+     *
+     * @param validator validator of the statement or the connection
+     * @param commitTx true to commit the transaction by the same request
+     */
+    private void flushDeferredWrites(YdbValidator validator, boolean commitTx) throws SQLException {
+        DeferredWrites writes = deferredWrites;
+        if (writes == null) {
+            return;
+        }
+        deferredWrites = null;
+
+        YdbContext ctx = writes.getContext();
+        List<YdbQueryExtentionService.QueryCall> calls = writes.getCalls();
+        String yql = prefixPragma + writes.getQuery();
+        Params params = writes.getParams();
+
+        ExecuteQuerySettings.Builder settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder());
+        for (YdbQueryExtentionService.QueryCall spi: calls) {
+            settings = spi.prepareQuerySettings(settings);
+        }
+        ExecuteQuerySettings requestSettings = settings.build();
+
+        YdbTracer tracer = ctx.getTracer();
+        QueryTransaction localTx = getOrCreateTransaction(validator, true);
+        Status status = null;
+        Throwable error = null;
+        try {
+            tracer.trace("--> deferred writes of " + calls.size() + " queries" + (commitTx ? " with commit" : ""));
+            tracer.query(yql);
+
+            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
+                    () -> QueryReader.readFrom(localTx.createQuery(yql, commitTx, params, requestSettings))
+            );
+            validator.addStatusIssues(result.getIssueList());
+
+            if (result.getQueryInfo().hasStats()) {
+                for (YdbQueryExtentionService.QueryCall spi: calls) {
+                    spi.onQueryStats(result.getQueryInfo().getStats());
+                }
+            }
+            status = Status.SUCCESS;
+        } catch (SQLException | RuntimeException ex) {
+            if (ex instanceof YdbStatusable) {
+                status = ((YdbStatusable) ex).getStatus();
+            } else {
+                error = ex;
+            }
+            throw ex;
+        } finally {
+            for (YdbQueryExtentionService.QueryCall spi: calls) {
+                spi.onQueryResult(status, error);
+            }
+
+            if (!localTx.isActive()) {
+                if (tx.compareAndSet(localTx, null)) {
+                    localTx.getSession().close();
+                }
+                tracer.close();
+            } else {
+                tracer.setId(localTx.getId());
+            }
+        }
+    }
+
     @Override
     public YdbResultSetMemory[] executeInMemoryQuery(YdbStatement statement, YdbQuery query, String preparedYql,
             Params params) throws SQLException {
         ensureOpened();
 
+        if (deferWrite(statement, query, preparedYql, params)) {
+            return new YdbResultSetMemory[0];
+        }
+
+        flushDeferredWrites(statement.getValidator(), false);
+        return executeInMemoryQuery(statement, query, preparedYql, params, isAutoCommit);
+    }
+
+    @Override
+    public YdbQueryResult executeDataQueryAndCommit(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
+        ensureOpened();
+
+        if (isAutoCommit || !canCommitWithQuery()) {
+            return super.executeDataQueryAndCommit(statement, query, preparedYql, params);
+        }
+
+        YdbValidator validator = statement.getValidator();
+        if (deferWrite(statement, query, preparedYql, params)) {
+            // the query is the last one of deferred writes, all of them are sent together with the commit
+            flushDeferredWrites(validator, true);
+            // no-op if the transaction is already committed by deferred writes
+            commit(statement.getConnection().getCtx(), validator);
+            return updateCurrentResult(new YdbQueryResultStatic(query));
+        }
+
+        flushDeferredWrites(validator, false);
+        YdbResultSetMemory[] readers = executeInMemoryQuery(statement, query, preparedYql, params, true);
+        return updateCurrentResult(new YdbQueryResultStatic(query, readers));
+    }
+
+    private YdbResultSetMemory[] executeInMemoryQuery(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params, boolean commitTx) throws SQLException {
         YdbValidator validator = statement.getValidator();
 
         YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        // QueryService has no handles of compiled queries, the server reuses compiled plans by the query text.
+        // So the text must be the same for all executions of the statement, including the prefix pragma
         String yql = prefixPragma + preparedYql;
         int timeout = statement.getQueryTimeout();
         ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
@@ -280,18 +479,42 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             tracer.query(yql);
             ExecuteQuerySettings requestSettings = settings.build();
 
-            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
-                    () -> QueryReader.readFrom(localTx.createQuery(yql, isAutoCommit, params, requestSettings))
-            );
-            validator.addStatusIssues(result.getIssueList());
-
-            YdbResultSetMemory[] readers = new YdbResultSetMemory[result.getResultSetCount()];
-            for (int idx = 0; idx < readers.length; idx++) {
-                readers[idx] = new YdbResultSetMemory(types, statement, result.getResultSet(idx));
+            String msg = QueryType.DATA_QUERY + " >>\n" + yql;
+            YdbResultSetMemory[] readers;
+            QueryInfo info;
+            if (useParallelDecoding) {
+                // every part is decoded as soon as it is received, not after the end of stream
+                ColumnarDecoder decoder = new ColumnarDecoder(types);
+                info = validator.call(msg, tracer, () -> localTx.createQuery(yql, commitTx, params, requestSettings)
+                        .execute(new QueryStream.PartsHandler() {
+                            @Override
+                            public void onIssues(Issue[] issues) {
+                                validator.addStatusIssues(Arrays.asList(issues));
+                            }
+
+                            @Override
+                            public void onNextPart(QueryResultPart part) {
+                                decoder.onPart((int) part.getResultSetIndex(), part.getResultSetReader());
+                            }
+                        })
+                );
+                readers = decoder.buildAll(statement);
+            } else {
+                QueryReader result = validator.call(msg, tracer,
+                        () -> QueryReader.readFrom(localTx.createQuery(yql, commitTx, params, requestSettings))
+                );
+                validator.addStatusIssues(result.getIssueList());
+
+                ResultSetReader[] sets = new ResultSetReader[result.getResultSetCount()];
+                for (int idx = 0; idx < sets.length; idx++) {
+                    sets[idx] = result.getResultSet(idx);
+                }
+                readers = createMemoryResultSets(statement, sets);
+                info = result.getQueryInfo();
             }
 
-            if (result.getQueryInfo().hasStats()) {
-                spi.onQueryStats(result.getQueryInfo().getStats());
+            if (info.hasStats()) {
+                spi.onQueryStats(info.getStats());
             }
 
             spi.onQueryResult(Status.SUCCESS, null);
@@ -318,17 +541,201 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
     }
 
+    @Override
+    public List<YdbResultSetMemory[]> executeInMemoryQueries(YdbStatement statement, YdbQuery query,
+            Function<Params, String> queryFunc, List<Params> params, int parallelism) throws SQLException {
+        ensureOpened();
+
+        YdbValidator validator = statement.getValidator();
+        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        int timeout = statement.getQueryTimeout();
+
+        BatchEntry[] entries = new BatchEntry[params.size()];
+        for (int idx = 0; idx < entries.length; idx++) {
+            Params prms = params.get(idx);
+            String yql = prefixPragma + queryFunc.apply(prms);
+            ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
+            if (timeout > 0) {
+                settings = settings.withRequestTimeout(timeout, TimeUnit.SECONDS);
+            }
+            YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
+            entries[idx] = new BatchEntry(yql, prms, spi, spi.prepareQuerySettings(settings).build());
+        }
+
+        tracer.trace("--> parallel batch of " + entries.length + " data queries");
+        tracer.query(entries[0].yql);
+
+        ParallelBatch batch = new ParallelBatch(entries, txMode, isReadOnly);
+        try {
+            validator.execute(QueryType.DATA_QUERY + " BATCH >>\n" + entries[0].yql, tracer,
+                    () -> batch.run(Math.min(parallelism, entries.length))
+            );
+        } catch (SQLException ex) {
+            // committed entries are reported as successful, failed and not sent entries as failed
+            int[] counts = new int[entries.length];
+            for (int idx = 0; idx < entries.length; idx++) {
+                counts[idx] = entries[idx].result != null ? Statement.SUCCESS_NO_INFO : Statement.EXECUTE_FAILED;
+            }
+            throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), counts, ex);
+        } finally {
+            for (BatchEntry entry: entries) {
+                if (entry.status != null) {
+                    entry.spi.onQueryResult(entry.status, null);
+                }
+            }
+            tracer.close();
+        }
+
+        List<YdbResultSetMemory[]> results = new ArrayList<>(entries.length);
+        for (BatchEntry entry: entries) {
+            QueryReader result = entry.result;
+            validator.addStatusIssues(result.getIssueList());
+
+            ResultSetReader[] sets = new ResultSetReader[result.getResultSetCount()];
+            for (int idx = 0; idx < sets.length; idx++) {
+                sets[idx] = result.getResultSet(idx);
+            }
+            YdbResultSetMemory[] readers = createMemoryResultSets(statement, sets);
+            if (result.getQueryInfo().hasStats()) {
+                entry.spi.onQueryStats(result.getQueryInfo().getStats());
+            }
+            results.add(readers);
+        }
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<YdbResultSetMemory[]> executeInMemoryQueryAsync(YdbStatement statement, YdbQuery query,
+            String preparedYql, Params params) {
+        String yql = prefixPragma + preparedYql;
+        String msg = QueryType.DATA_QUERY + " >>\n" + yql;
+        int timeout = statement.getQueryTimeout();
+        ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
+        if (timeout > 0) {
+            settings = settings.withRequestTimeout(timeout, TimeUnit.SECONDS);
+        }
+
+        YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
+        ExecuteQuerySettings requestSettings = spi.prepareQuerySettings(settings).build();
+
+        // Async query is always executed in its own transaction and is completed by another thread, so it has its
+        // own trace which is completed with the result
+        YdbTracer tracer = statement.getConnection().getCtx().createDetachedTracer();
+        tracer.trace("--> async data query");
+        tracer.query(yql);
+
+        YdbValidator validator = statement.getValidator();
+        TxMode mode = txMode;
+        boolean readOnly = isReadOnly;
+        return createQuerySessionAsync(readOnly).thenCompose(session -> {
+            if (!session.isSuccess()) {
+                return CompletableFuture.completedFuture(Result.<QueryReader>fail(session.getStatus()));
+            }
+            QuerySession qs = session.getValue();
+            return QueryReader.readFrom(qs.createQuery(yql, mode, params, requestSettings))
+                    .whenComplete((res, th) -> qs.close());
+        }).handleAsync((result, th) -> {
+            // the result is decoded by the callback executor, not by the thread of gRPC
+            tracer.trace("<-- " + (th != null ? th.toString() : result.getStatus().toString()));
+            tracer.close();
+
+            if (th != null) {
+                spi.onQueryResult(null, th);
+                throw th instanceof CompletionException ? (CompletionException) th : new CompletionException(th);
+            }
+
+            spi.onQueryResult(result.getStatus(), null);
+            validator.addStatusIssues(result.getStatus());
+            if (!result.isSuccess()) {
+                throw new CompletionException(ExceptionFactory.createException(
+                        "Cannot call '" + msg + "' with " + result.getStatus(),
+                        new UnexpectedResultException("Unexpected status", result.getStatus())
+                ));
+            }
+
+            QueryReader reader = result.getValue();
+            validator.addStatusIssues(reader.getIssueList());
+            if (reader.getQueryInfo().hasStats()) {
+                spi.onQueryStats(reader.getQueryInfo().getStats());
+            }
+
+            ResultSetReader[] sets = new ResultSetReader[reader.getResultSetCount()];
+            for (int idx = 0; idx < sets.length; idx++) {
+                sets[idx] = reader.getResultSet(idx);
+            }
+            YdbResultSetMemory[] readers = createMemoryResultSets(statement, sets);
+            return readers;
+        }, callbackExecutor);
+    }
+
+    @Override
+    public YdbFlow.Publisher<ResultSetReader> publishDataQuery(YdbStatement statement, YdbQuery query,
+            String preparedYql, Params params) {
+        String yql = prefixPragma + preparedYql;
+        int timeout = statement.getQueryTimeout();
+        ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
+        if (timeout > 0) {
+            settings = settings.withRequestTimeout(timeout, TimeUnit.SECONDS);
+        }
+
+        YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
+        ExecuteQuerySettings.Builder requestSettings = spi.prepareQuerySettings(settings);
+
+        // Published query is always executed in its own transaction, so the trace of the query is completed here
+        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        tracer.trace("--> publish data query");
+        tracer.query(yql);
+        tracer.close();
+
+        TxMode mode = txMode;
+        boolean readOnly = isReadOnly;
+        return new YdbQueryPublisher(QueryType.DATA_QUERY + " >>\n" + yql, callbackExecutor) {
+            private volatile QuerySession session = null;
+
+            @Override
+            protected CompletableFuture<Result<QueryStream>> createStream(GrpcFlowControl flowControl) {
+                ExecuteQuerySettings streamSettings = requestSettings.withGrpcFlowControl(flowControl).build();
+                return createQuerySessionAsync(readOnly).thenApply(result -> result.map(qs -> {
+                    session = qs;
+                    return qs.createQuery(yql, mode, params, streamSettings);
+                }));
+            }
+
+            @Override
+            protected void onQueryStats(QueryStats stats) {
+                spi.onQueryStats(stats);
+            }
+
+            @Override
+            protected void onClose(Status status, Throwable th) {
+                try {
+                    spi.onQueryResult(status, th);
+                } finally {
+                    QuerySession qs = session;
+                    if (qs != null) {
+                        qs.close();
+                    }
+                }
+            }
+        };
+    }
+
     @Override
     public YdbQueryResult executeDataQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
         ensureOpened();
 
+        if (deferWrite(statement, query, preparedYql, params)) {
+            return updateCurrentResult(new YdbQueryResultStatic(query));
+        }
+
         if (!useStreamResultSet) {
             YdbResultSetMemory[] readers = executeInMemoryQuery(statement, query, preparedYql, params);
             return updateCurrentResult(new YdbQueryResultStatic(query, readers));
         }
 
         YdbValidator validator = statement.getValidator();
+        flushDeferredWrites(validator, false);
         String yql = prefixPragma + preparedYql;
 
         int timeout = statement.getQueryTimeout();
@@ -346,7 +753,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         tracer.query(yql);
         String msg = "STREAM_QUERY >>\n" + yql;
 
-        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query, useParallelDecoding) {
             @Override
             public void onClose(Status status, Throwable th) {
                 try {
@@ -485,6 +892,8 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             throw new SQLException(YdbConst.AUTO_COMMIT_TRANSACTION_UNWRAP_UNSUPPORTED);
         }
 
+        // the transaction may be used directly, so it must contain all writes made before
+        flushDeferredWrites(validator, false);
         return getOrCreateTransaction(validator, false);
     }
 
@@ -514,4 +923,98 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
                 throw new SQLException(YdbConst.UNSUPPORTED_TRANSACTION_LEVEL + level);
         }
     }
+
+    private static class BatchEntry {
+        private final String yql;
+        private final Params params;
+        private final YdbQueryExtentionService.QueryCall spi;
+        private final ExecuteQuerySettings settings;
+
+        private volatile Status status = null;
+        private volatile QueryReader result = null;
+
+        BatchEntry(String yql, Params params, YdbQueryExtentionService.QueryCall spi, ExecuteQuerySettings settings) {
+            this.yql = yql;
+            this.params = params;
+            this.spi = spi;
+            this.settings = settings;
+        }
+    }
+
+    /**
+     * Executes batch entries on separate sessions with limited count of in-flight queries. Every entry is executed
+     * in its own transaction, the first failed entry stops the scheduling of the next ones.
+     */
+    private class ParallelBatch {
+        private final BatchEntry[] entries;
+        private final TxMode mode;
+        private final boolean readOnly;
+        private final AtomicInteger nextEntry = new AtomicInteger(0);
+        private final AtomicReference<Status> failure = new AtomicReference<>();
+
+        ParallelBatch(BatchEntry[] entries, TxMode mode, boolean readOnly) {
+            this.entries = entries;
+            this.mode = mode;
+            this.readOnly = readOnly;
+        }
+
+        CompletableFuture<Status> run(int parallelism) {
+            CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+            for (int idx = 0; idx < parallelism; idx++) {
+                workers[idx] = runNext();
+            }
+            return CompletableFuture.allOf(workers).thenApply(v -> {
+                Status status = failure.get();
+                return status != null ? status : Status.SUCCESS;
+            });
+        }
+
+        private CompletableFuture<Void> runNext() {
+            int idx = nextEntry.getAndIncrement();
+            if (idx >= entries.length || failure.get() != null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            BatchEntry entry = entries[idx];
+            CompletableFuture<Void> future;
+            try {
+                future = createQuerySessionAsync(readOnly).thenCompose(session -> {
+                    if (!session.isSuccess()) {
+                        entry.status = session.getStatus();
+                        failure.compareAndSet(null, session.getStatus());
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    QuerySession qs = session.getValue();
+                    return QueryReader.readFrom(qs.createQuery(entry.yql, mode, entry.params, entry.settings))
+                            .whenComplete((res, th) -> qs.close())
+                            .thenCompose(res -> onResult(entry, res));
+                });
+            } catch (RuntimeException ex) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(ex);
+            }
+
+            // unexpected exceptions become the status of the batch, so the caller gets SQLException as usual
+            return future.exceptionally(th -> {
+                Throwable cause = th instanceof CompletionException && th.getCause() != null ? th.getCause() : th;
+                Status status = Status.of(StatusCode.CLIENT_INTERNAL_ERROR, cause);
+                if (entry.status == null) {
+                    entry.status = status;
+                }
+                failure.compareAndSet(null, status);
+                return null;
+            });
+        }
+
+        private CompletableFuture<Void> onResult(BatchEntry entry, Result<QueryReader> res) {
+            entry.status = res.getStatus();
+            if (!res.isSuccess()) {
+                failure.compareAndSet(null, res.getStatus());
+                return CompletableFuture.completedFuture(null);
+            }
+            entry.result = res.getValue();
+            return runNext();
+        }
+    }
 }
@@ -35,21 +35,29 @@ public class QueryStat {
     private final boolean isError;
 
     public QueryStat(String sql, String yql, String ast, String plan) {
+        this(sql, yql, ast, plan, new LongAdder());
+    }
+
+    public QueryStat(String sql, String yql, Status error) {
+        this(sql, yql, error, new LongAdder());
+    }
+
+    QueryStat(String sql, String yql, String ast, String plan, LongAdder usage) {
         this.originSQL = sql;
         this.preparedYQL = yql;
         this.ast = ast;
         this.plan = plan;
-        this.usage = new LongAdder();
+        this.usage = usage;
         this.isFullScan = plan.contains("\"Node Type\":\"TableFullScan\"");
         this.isError = false;
     }
 
-    public QueryStat(String sql, String yql, Status error) {
+    QueryStat(String sql, String yql, Status error, LongAdder usage) {
         this.originSQL = sql;
         this.preparedYQL = yql;
         this.ast = null;
         this.plan = error.toString();
-        this.usage = new LongAdder();
+        this.usage = usage;
         this.isFullScan = false;
         this.isError = true;
     }
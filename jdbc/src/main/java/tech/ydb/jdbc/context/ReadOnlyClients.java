@@ -0,0 +1,38 @@
+package tech.ydb.jdbc.context;
+
+import tech.ydb.core.grpc.GrpcTransport;
+import tech.ydb.query.impl.QueryClientImpl;
+import tech.ydb.table.impl.PooledTableClient;
+
+/**
+ * Separate transport and session pools used by read-only transactions when option {@code readOnlyRouting} is
+ * enabled, so heavy snapshot reads can't take the sessions of read-write transactions.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class ReadOnlyClients implements AutoCloseable {
+    private final GrpcTransport transport;
+    private final PooledTableClient tableClient;
+    private final QueryClientImpl queryClient;
+
+    ReadOnlyClients(GrpcTransport transport, PooledTableClient tableClient, QueryClientImpl queryClient) {
+        this.transport = transport;
+        this.tableClient = tableClient;
+        this.queryClient = queryClient;
+    }
+
+    PooledTableClient getTableClient() {
+        return tableClient;
+    }
+
+    QueryClientImpl getQueryClient() {
+        return queryClient;
+    }
+
+    @Override
+    public void close() {
+        queryClient.close();
+        tableClient.close();
+        transport.close();
+    }
+}
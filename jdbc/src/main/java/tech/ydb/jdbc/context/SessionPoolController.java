@@ -0,0 +1,321 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.query.impl.QueryClientImpl;
+import tech.ydb.table.impl.PooledTableClient;
+
+/**
+ * Adaptive controller of the session pool max size. Every acquire of a session is measured and once per window the
+ * pool size is adjusted with the AIMD rule: the size grows by a fixed step while the average wait of sessions exceeds
+ * the target or acquires time out in the client waiting queue and shrinks multiplicatively when the server rejects
+ * too many acquires as overloaded or when the pool has been idle for a long time. Other errors of acquires say nothing
+ * about the pool size and are counted only by their wait. Windows are closed by acquires and by the periodic tick of
+ * the scheduler, so the pool without any load shrinks too.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class SessionPoolController {
+    private static final Logger LOGGER = Logger.getLogger(SessionPoolController.class.getName());
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int INCREASE_STEP = 10;
+    private static final double DECREASE_FACTOR = 0.75;
+    private static final double MAX_ERROR_RATE = 0.5;
+    private static final int IDLE_WINDOWS_BEFORE_DECREASE = 30;
+
+    private static final SessionPoolController DISABLED = new SessionPoolController();
+
+    private final IntConsumer resizer;
+    private final boolean enabled;
+    private final long targetWaitNanos;
+    private final int minSize;
+    private final int maxSize;
+    private final ScheduledFuture<?> tick;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger maxPending = new AtomicInteger();
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    private final AtomicLong increaseCount = new AtomicLong();
+    private final AtomicLong decreaseCount = new AtomicLong();
+    private volatile int currentSize;
+    private volatile long lastAvgWaitNanos = 0;
+    private volatile double lastErrorRate = 0;
+    private volatile int lastMaxPending = 0;
+    // adjusting may close sessions of the pool, so it is guarded by lock which doesn't pin virtual threads
+    private final ReentrantLock adjustLock = new ReentrantLock();
+    private int idleWindows = 0;
+
+    private SessionPoolController() {
+        this.resizer = null;
+        this.enabled = false;
+        this.targetWaitNanos = 0;
+        this.minSize = 0;
+        this.maxSize = 0;
+        this.currentSize = 0;
+        this.tick = null;
+    }
+
+    SessionPoolController(PooledTableClient tableClient, QueryClientImpl queryClient, Duration targetWait,
+            int minSize, int maxSize, ScheduledExecutorService scheduler) {
+        this(tableClient.sessionPoolStats().getMaxSize(), size -> {
+            tableClient.updatePoolMaxSize(size);
+            queryClient.updatePoolMaxSize(size);
+        }, targetWait, minSize, maxSize, scheduler);
+    }
+
+    /**
+     * @param initialSize current max size of the pool
+     * @param resizer consumer of new max sizes of the pool
+     * @param targetWait target of the average wait of sessions
+     * @param minSize lower bound of the pool size
+     * @param maxSize upper bound of the pool size
+     * @param scheduler scheduler of periodic ticks or {@code null} if windows are closed by acquires only
+     */
+    SessionPoolController(int initialSize, IntConsumer resizer, Duration targetWait, int minSize, int maxSize,
+            ScheduledExecutorService scheduler) {
+        this.resizer = resizer;
+        this.enabled = true;
+        this.targetWaitNanos = Math.max(1, targetWait.toNanos());
+        this.currentSize = initialSize;
+        this.minSize = Math.max(1, Math.min(minSize, currentSize));
+        this.maxSize = Math.max(maxSize, currentSize);
+        if (scheduler != null) {
+            // the tick is twice as frequent as windows, so a late tick doesn't skip the whole window
+            long period = WINDOW_NANOS / 2;
+            this.tick = scheduler.scheduleAtFixedRate(this::onTick, period, period, TimeUnit.NANOSECONDS);
+        } else {
+            this.tick = null;
+        }
+    }
+
+    void close() {
+        if (tick != null) {
+            tick.cancel(false);
+        }
+    }
+
+    static SessionPoolController disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return pool max size chosen by the controller or {@code 0} if the controller is disabled
+     */
+    public int getCurrentSize() {
+        return currentSize;
+    }
+
+    public long getIncreaseCount() {
+        return increaseCount.get();
+    }
+
+    public long getDecreaseCount() {
+        return decreaseCount.get();
+    }
+
+    /**
+     * @return average wait of session in the last closed window
+     */
+    public Duration getLastAverageWait() {
+        return Duration.ofNanos(lastAvgWaitNanos);
+    }
+
+    /**
+     * @return ratio of failed acquires of session in the last closed window
+     */
+    public double getLastErrorRate() {
+        return lastErrorRate;
+    }
+
+    /**
+     * @return max count of concurrently waiting acquires in the last closed window
+     */
+    public int getLastMaxPending() {
+        return lastMaxPending;
+    }
+
+    <T> CompletableFuture<Result<T>> track(Supplier<CompletableFuture<Result<T>>> acquire) {
+        if (!enabled) {
+            return acquire.get();
+        }
+
+        long started = onAcquireStart();
+        try {
+            return acquire.get().whenComplete((res, th) -> onAcquireEnd(started, th == null ? res.getStatus()
+                    : statusOf(th)));
+        } catch (RuntimeException ex) {
+            onAcquireEnd(started, statusOf(ex));
+            throw ex;
+        }
+    }
+
+    private long onAcquireStart() {
+        int actual = pending.incrementAndGet();
+        maxPending.accumulateAndGet(actual, Math::max);
+        return System.nanoTime();
+    }
+
+    private void onAcquireEnd(long started, Status status) {
+        long now = System.nanoTime();
+        pending.decrementAndGet();
+        onAcquired(now - started, status);
+        closeWindow(now);
+    }
+
+    /**
+     * Registers the finished acquire of session in the current window
+     *
+     * @param wait wait of the acquire in nanoseconds
+     * @param status status of the acquire
+     */
+    void onAcquired(long wait, Status status) {
+        acquires.increment();
+        waitNanos.add(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        if (isOverloaded(status.getCode())) {
+            failures.increment();
+        } else if (isWaitTimeout(status.getCode())) {
+            timeouts.increment();
+        }
+    }
+
+    private static Status statusOf(Throwable th) {
+        Throwable cause = th instanceof CompletionException && th.getCause() != null ? th.getCause() : th;
+        if (cause instanceof UnexpectedResultException) {
+            return ((UnexpectedResultException) cause).getStatus();
+        }
+        if (cause instanceof TimeoutException) {
+            return Status.of(StatusCode.CLIENT_DEADLINE_EXPIRED);
+        }
+        return Status.of(StatusCode.CLIENT_INTERNAL_ERROR);
+    }
+
+    /**
+     * The server has no resources for new sessions, so the bigger pool only makes it worse
+     */
+    private static boolean isOverloaded(StatusCode code) {
+        switch (code) {
+            case OVERLOADED:
+            case UNAVAILABLE:
+            case TRANSPORT_UNAVAILABLE:
+            case SESSION_BUSY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The acquire hasn't got the session from the client pool in time, so the pool is too small
+     */
+    private static boolean isWaitTimeout(StatusCode code) {
+        switch (code) {
+            case CLIENT_DEADLINE_EXPIRED:
+            case CLIENT_DEADLINE_EXCEEDED:
+            case CLIENT_RESOURCE_EXHAUSTED:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void onTick() {
+        try {
+            closeWindow(System.nanoTime());
+        } catch (RuntimeException ex) {
+            // exception cancels next executions of the periodic task
+            LOGGER.log(Level.WARNING, "Cannot adjust session pool", ex);
+        }
+    }
+
+    private void closeWindow(long now) {
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now) && adjustLock.tryLock()) {
+            try {
+                adjust();
+            } finally {
+                adjustLock.unlock();
+            }
+        }
+    }
+
+    void adjust() {
+        long count = acquires.sumThenReset();
+        long failed = failures.sumThenReset();
+        long timedOut = timeouts.sumThenReset();
+        long totalWait = waitNanos.sumThenReset();
+        long maxWait = maxWaitNanos.getAndSet(0);
+        int windowMaxPending = maxPending.getAndSet(pending.get());
+
+        lastAvgWaitNanos = count > 0 ? totalWait / count : 0;
+        lastErrorRate = count > 0 ? (double) failed / count : 0;
+        lastMaxPending = windowMaxPending;
+
+        int size = currentSize;
+        if (lastErrorRate > MAX_ERROR_RATE) {
+            idleWindows = 0;
+            resize(Math.max(minSize, (int) (size * DECREASE_FACTOR)));
+            return;
+        }
+
+        boolean starving = maxWait > 4 * targetWaitNanos && windowMaxPending > 1;
+        if (lastAvgWaitNanos > targetWaitNanos || starving || timedOut > 0) {
+            idleWindows = 0;
+            resize(Math.min(maxSize, size + INCREASE_STEP));
+            return;
+        }
+
+        idleWindows++;
+        if (idleWindows >= IDLE_WINDOWS_BEFORE_DECREASE) {
+            idleWindows = 0;
+            resize(Math.max(minSize, (int) (size * DECREASE_FACTOR)));
+        }
+    }
+
+    private void resize(int newSize) {
+        int size = currentSize;
+        if (newSize == size) {
+            return;
+        }
+
+        LOGGER.log(Level.FINE, "Resize session pool from {0} to {1}, avg wait {2} ns, error rate {3}",
+                new Object[] { size, newSize, lastAvgWaitNanos, lastErrorRate });
+        resizer.accept(newSize);
+        currentSize = newSize;
+
+        if (newSize > size) {
+            increaseCount.incrementAndGet();
+        } else {
+            decreaseCount.incrementAndGet();
+        }
+    }
+}
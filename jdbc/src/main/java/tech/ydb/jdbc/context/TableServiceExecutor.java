@@ -253,10 +253,11 @@ public class TableServiceExecutor extends BaseYdbExecutor {
                 }
             }
 
-            YdbResultSetMemory[] readers = new YdbResultSetMemory[result.getResultSetCount()];
-            for (int idx = 0; idx < result.getResultSetCount(); idx += 1) {
-                readers[idx] = new YdbResultSetMemory(types, statement, result.getResultSet(idx));
+            ResultSetReader[] sets = new ResultSetReader[result.getResultSetCount()];
+            for (int idx = 0; idx < sets.length; idx += 1) {
+                sets[idx] = result.getResultSet(idx);
             }
+            YdbResultSetMemory[] readers = createMemoryResultSets(statement, sets);
 
             spi.onQueryResult(Status.SUCCESS, null);
             return readers;
@@ -414,7 +415,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
         }
 
         public Session getSession(YdbValidator validator) throws SQLException {
-            return createNewTableSession(validator);
+            return createNewTableSession(validator, isReadOnly);
         }
     }
 
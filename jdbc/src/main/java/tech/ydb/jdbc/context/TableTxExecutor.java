@@ -104,6 +104,12 @@ public class TableTxExecutor extends QueryServiceExecutor {
         }
     }
 
+    @Override
+    protected boolean canCommitWithQuery() {
+        // commit of write transaction must store its id to the tx table
+        return false;
+    }
+
     @Override
     protected void commitImpl(YdbContext ctx, YdbValidator validator, QueryTransaction tx) throws SQLException {
         boolean storeTx = isWriteTx;
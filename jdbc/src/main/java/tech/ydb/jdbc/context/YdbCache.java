@@ -9,14 +9,23 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbPrepareMode;
@@ -31,6 +40,7 @@ import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
 import tech.ydb.jdbc.query.params.InMemoryQuery;
 import tech.ydb.jdbc.query.params.PreparedQuery;
+import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 import tech.ydb.table.SessionRetryContext;
 import tech.ydb.table.description.TableDescription;
@@ -49,6 +59,10 @@ import tech.ydb.table.values.Type;
  * @author Aleksandr Gorshenin
  */
 public class YdbCache {
+    private static final long EXPLAIN_AWAIT_TIMEOUT_SECONDS = 10;
+    // the caches of parsed queries are read by every prepareStatement call
+    static final int QUERIES_CACHE_CONCURRENCY = Math.max(4, Runtime.getRuntime().availableProcessors());
+
     private final YdbContext ctx;
     protected final SessionRetryContext retryCtx;
     private final YdbQueryProperties queryOptions;
@@ -59,17 +73,43 @@ public class YdbCache {
     protected final Cache<String, TableDescription> tableDescribeCache;
 
     private final Supplier<String> version = Suppliers.memoizeWithExpiration(this::readVersion, 1, TimeUnit.HOURS);
+    private final int cacheSize;
+    private final Supplier<YdbPersistentCache> persistentCache;
+
+    // full scan detector checks the queries in background, the usages are counted until the plan is received
+    private final Map<String, LongAdder> pendingStats = new ConcurrentHashMap<>();
+    private final Semaphore explainLimit;
+    private final int explainMaxInFlight;
+    private final int explainSampling;
 
-    public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, int cacheSize, boolean fullScanDetector) {
+    public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, YdbConfig config) {
         this.ctx = ctx;
         this.retryCtx = SessionRetryContext.create(ctx.getTableClient()).idempotent(true).build();
         this.queryOptions = queryOptions;
+        this.cacheSize = config.getPreparedStatementsCachecSize();
+        this.explainMaxInFlight = config.getFullScanDetectorMaxInFlight();
+        this.explainLimit = new Semaphore(explainMaxInFlight);
+        this.explainSampling = config.getFullScanDetectorSampling();
+
+        String persistentCacheFile = config.getPersistentCacheFile();
+
+        if (cacheSize > 0 && persistentCacheFile != null && !persistentCacheFile.isEmpty()) {
+            // the file is loaded lazily by first cache miss, because it requires the version of database
+            persistentCache = Suppliers.memoize(() -> YdbPersistentCache.load(
+                    persistentCacheFile, ctx.getPrefixPath(), getDatabaseVersion()
+            ));
+        } else {
+            persistentCache = null;
+        }
 
         if (cacheSize > 0) {
-            queriesCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            tableDescribeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            if (fullScanDetector) {
+            queriesCache = CacheBuilder.newBuilder().maximumSize(cacheSize)
+                    .concurrencyLevel(QUERIES_CACHE_CONCURRENCY)
+                    .recordStats()
+                    .build();
+            queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+            tableDescribeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+            if (config.isFullScanDetectorEnabled()) {
                 statsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
             } else {
                 statsCache = null;
@@ -94,6 +134,18 @@ public class YdbCache {
         return this.queryOptions;
     }
 
+    public YdbCacheStats getQueriesCacheStats() {
+        return YdbCacheStats.of(queriesCache != null ? queriesCache.stats() : null);
+    }
+
+    public YdbCacheStats getQueryParamsCacheStats() {
+        return YdbCacheStats.of(queryParamsCache != null ? queryParamsCache.stats() : null);
+    }
+
+    public YdbCacheStats getTableDescribeCacheStats() {
+        return YdbCacheStats.of(tableDescribeCache != null ? tableDescribeCache.stats() : null);
+    }
+
     public boolean queryStatsEnabled() {
         return statsCache != null;
     }
@@ -101,6 +153,7 @@ public class YdbCache {
     public void resetQueryStats() {
         if (statsCache != null) {
             statsCache.invalidateAll();
+            pendingStats.clear();
         }
     }
 
@@ -108,10 +161,18 @@ public class YdbCache {
         // nothing
     }
 
+    public void close() {
+        if (persistentCache != null && (queryParamsCache.size() > 0 || tableDescribeCache.size() > 0)) {
+            persistentCache.get().save(queryParamsCache.asMap(), tableDescribeCache.asMap(), cacheSize);
+        }
+    }
+
     public Collection<QueryStat> getQueryStats() {
         if (statsCache == null) {
             return Collections.emptyList();
         }
+        awaitExplains();
+
         List<QueryStat> sorted = new ArrayList<>(statsCache.asMap().values());
         Collections.sort(sorted,
                 Comparator
@@ -141,23 +202,96 @@ public class YdbCache {
         }
 
         QueryStat stat = statsCache.getIfPresent(yql);
-        if (stat == null) {
-            final ExplainDataQuerySettings settings = ctx.withDefaultTimeout(new ExplainDataQuerySettings());
-            Result<ExplainDataQueryResult> res = retryCtx.supplyResult(
-                    session -> session.explainDataQuery(yql, settings)
-            ).join();
-
-            if (res.isSuccess()) {
-                ExplainDataQueryResult exp = res.getValue();
-                stat = new QueryStat(query.getOriginQuery(), yql, exp.getQueryAst(), exp.getQueryPlan());
-            } else {
-                stat = new QueryStat(query.getOriginQuery(), yql, res.getStatus());
+        if (stat != null) {
+            stat.incrementUsage();
+            return;
+        }
+
+        // sampling depends only on the query text, so the skipped queries are never explained
+        if (Math.floorMod(yql.hashCode(), 100) >= explainSampling) {
+            return;
+        }
+
+        LongAdder usage = pendingStats.get(yql);
+        if (usage == null) {
+            LongAdder created = new LongAdder();
+            usage = pendingStats.putIfAbsent(yql, created);
+            if (usage == null) {
+                stat = statsCache.getIfPresent(yql);
+                if (stat != null) { // explain was completed concurrently
+                    pendingStats.remove(yql, created);
+                    stat.incrementUsage();
+                    return;
+                }
+                if (!explainLimit.tryAcquire()) {
+                    // too many explains in flight, the query will be checked on the next execution
+                    pendingStats.remove(yql, created);
+                    return;
+                }
+                usage = created;
+                explainQuery(query, yql, created);
+            }
+        }
+        usage.increment();
+    }
+
+    private void explainQuery(YdbQuery query, String yql, LongAdder usage) {
+        final ExplainDataQuerySettings settings = ctx.withDefaultTimeout(new ExplainDataQuerySettings());
+        retryCtx.supplyResult(session -> session.explainDataQuery(yql, settings)).whenComplete((res, th) -> {
+            try {
+                // the stat shares the usage counter with the pending entry, so no executions are lost
+                QueryStat stat;
+                if (th != null) {
+                    Status status = Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th);
+                    stat = new QueryStat(query.getOriginQuery(), yql, status, usage);
+                } else if (res.isSuccess()) {
+                    ExplainDataQueryResult exp = res.getValue();
+                    stat = new QueryStat(query.getOriginQuery(), yql, exp.getQueryAst(), exp.getQueryPlan(), usage);
+                } else {
+                    stat = new QueryStat(query.getOriginQuery(), yql, res.getStatus(), usage);
+                }
+
+                if (pendingStats.get(yql) == usage) { // stats were not reset
+                    statsCache.put(yql, stat);
+                    pendingStats.remove(yql, usage);
+                }
+            } finally {
+                explainLimit.release();
             }
+        });
+    }
 
-            statsCache.put(yql, stat);
+    private void awaitExplains() {
+        try {
+            if (explainLimit.tryAcquire(explainMaxInFlight, EXPLAIN_AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                explainLimit.release(explainMaxInFlight);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
         }
+    }
 
-        stat.incrementUsage();
+    /**
+     * Drops the cached parameter types of the query and the description of its table after the scheme error of
+     * execution. These values may be loaded from the outdated persistent cache, so the next prepare of the query will
+     * request them from the server
+     *
+     * @param query failed query
+     */
+    public void invalidateSchema(YdbQuery query) {
+        YqlBatcher batcher = query.getYqlBatcher();
+        String tablePath = batcher != null && batcher.getTableName() != null
+                ? YdbContext.joined(ctx.getPrefixPath(), batcher.getTableName()) : null;
+
+        if (queryParamsCache != null) {
+            queryParamsCache.invalidate(query.getOriginQuery());
+        }
+        if (tableDescribeCache != null && tablePath != null) {
+            tableDescribeCache.invalidate(tablePath);
+        }
+        if (persistentCache != null) {
+            persistentCache.get().drop(query.getOriginQuery(), tablePath);
+        }
     }
 
     public YdbQuery parseYdbQuery(QueryKey key) throws SQLException {
@@ -165,13 +299,7 @@ public class YdbCache {
             return YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
         }
 
-        YdbQuery cached = queriesCache.getIfPresent(key);
-        if (cached == null) {
-            cached = YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
-            queriesCache.put(key, cached);
-        }
-
-        return cached;
+        return load(queriesCache, key, () -> YdbQuery.parseQuery(key, queryOptions, ctx.getTypes()));
     }
 
     public YdbPreparedQuery prepareYdbQuery(YdbQuery query, YdbPrepareMode mode) throws SQLException {
@@ -205,28 +333,7 @@ public class YdbCache {
         }
 
         // try to prepare data query
-        Map<String, Type> queryTypes = queryParamsCache.getIfPresent(query.getOriginQuery());
-        if (queryTypes == null) {
-            String yql = ctx.getPrefixPragma() + query.getPreparedYql();
-            YdbTracer tracer = ctx.getTracer();
-            tracer.trace("--> prepare data query");
-            tracer.trace(yql);
-
-            PrepareDataQuerySettings settings = ctx.withDefaultTimeout(new PrepareDataQuerySettings());
-            Result<DataQuery> result = retryCtx.supplyResult(
-                    session -> session.prepareDataQuery(yql, settings)
-            ).join();
-
-            tracer.trace("<-- " + result.getStatus());
-            if (!result.isSuccess()) {
-                tracer.close();
-                throw ExceptionFactory.createException("Cannot prepare data query: " + result.getStatus(),
-                        new UnexpectedResultException("Unexpected status", result.getStatus()));
-            }
-
-            queryTypes = result.getValue().types();
-            queryParamsCache.put(query.getOriginQuery(), queryTypes);
-        }
+        Map<String, Type> queryTypes = load(queryParamsCache, query.getOriginQuery(), () -> prepareQueryTypes(query));
 
         if (query.isWriting()) { // try to create auto-batched query
             boolean requireBatch = mode == YdbPrepareMode.DATA_QUERY_BATCH;
@@ -244,6 +351,34 @@ public class YdbCache {
         return new PreparedQuery(ctx.getTypes(), query, queryTypes);
     }
 
+    private Map<String, Type> prepareQueryTypes(YdbQuery query) throws SQLException {
+        if (persistentCache != null) {
+            Map<String, Type> stored = persistentCache.get().getQueryParams(query.getOriginQuery());
+            if (stored != null) {
+                return stored;
+            }
+        }
+
+        String yql = ctx.getPrefixPragma() + query.getPreparedYql();
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> prepare data query");
+        tracer.trace(yql);
+
+        PrepareDataQuerySettings settings = ctx.withDefaultTimeout(new PrepareDataQuerySettings());
+        Result<DataQuery> result = retryCtx.supplyResult(
+                session -> session.prepareDataQuery(yql, settings)
+        ).join();
+
+        tracer.trace("<-- " + result.getStatus());
+        if (!result.isSuccess()) {
+            tracer.close();
+            throw ExceptionFactory.createException("Cannot prepare data query: " + result.getStatus(),
+                    new UnexpectedResultException("Unexpected status", result.getStatus()));
+        }
+
+        return result.getValue().types();
+    }
+
     private YdbPreparedQuery createBatchQuery(YdbQuery query, YqlBatcher batcher) throws SQLException {
         String tablePath = YdbContext.joined(ctx.getPrefixPath(), batcher.getTableName());
         Result<TableDescription> description = describeTable(tablePath);
@@ -268,10 +403,20 @@ public class YdbCache {
         return null;
     }
 
-    private Result<TableDescription> describeTable(String tablePath) {
-        TableDescription cached = tableDescribeCache.getIfPresent(tablePath);
-        if (cached != null) {
-            return Result.success(cached);
+    private Result<TableDescription> describeTable(String tablePath) throws SQLException {
+        try {
+            return Result.success(load(tableDescribeCache, tablePath, () -> loadTableDescription(tablePath)));
+        } catch (UnexpectedResultException ex) {
+            return Result.fail(ex.getStatus());
+        }
+    }
+
+    private TableDescription loadTableDescription(String tablePath) {
+        if (persistentCache != null) {
+            TableDescription stored = persistentCache.get().getTableDescription(tablePath);
+            if (stored != null) {
+                return stored;
+            }
         }
 
         YdbTracer tracer = ctx.getTracer();
@@ -283,11 +428,35 @@ public class YdbCache {
                 .join();
 
         tracer.trace("<-- " + result.getStatus());
+        return result.getValue(); // throws UnexpectedResultException for the failed result
+    }
 
-        if (result.isSuccess()) {
-            tableDescribeCache.put(tablePath, result.getValue());
+    /**
+     * Returns the cached value or loads it. Concurrent loads of the same key are deduplicated: only one thread
+     * executes the loader, other threads wait for its result. Failed loads are not cached.
+     */
+    private static <K, V> V load(Cache<K, V> cache, K key, Callable<V> loader) throws SQLException {
+        try {
+            if (cache == null) {
+                return loader.call();
+            }
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException(cause);
+        } catch (SQLException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new SQLException(ex);
         }
-
-        return result;
     }
 }
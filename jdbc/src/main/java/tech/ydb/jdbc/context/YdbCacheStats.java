@@ -0,0 +1,72 @@
+package tech.ydb.jdbc.context;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Snapshot of the counters of one driver cache. Concurrent misses of the same key are loaded only once, so the count
+ * of loads may be less than the count of misses; the difference is reported as coalesced loads.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheStats {
+    private static final YdbCacheStats EMPTY = new YdbCacheStats(0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long loadFailureCount;
+
+    private YdbCacheStats(long hitCount, long missCount, long loadCount, long loadFailureCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return count of executed loads, including the failed ones
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return ratio of hits to all requests or {@code 1.0} if there were no requests
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return count of misses, which were resolved by waiting of the load started by another thread
+     */
+    public long getCoalescedCount() {
+        return Math.max(0, missCount - loadCount);
+    }
+
+    @Override
+    public String toString() {
+        return "YdbCacheStats{hits=" + hitCount + ", misses=" + missCount + ", loads=" + loadCount
+                + ", coalesced=" + getCoalescedCount() + ", failures=" + loadFailureCount + "}";
+    }
+
+    static YdbCacheStats of(CacheStats stats) {
+        if (stats == null) {
+            return EMPTY;
+        }
+        return new YdbCacheStats(stats.hitCount(), stats.missCount(), stats.loadCount(), stats.loadExceptionCount());
+    }
+}
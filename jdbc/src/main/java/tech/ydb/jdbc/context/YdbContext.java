@@ -2,12 +2,26 @@ package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.grpc.BalancingSettings;
 import tech.ydb.core.grpc.GrpcTransport;
 import tech.ydb.core.grpc.GrpcTransportBuilder;
 import tech.ydb.core.impl.SingleChannelTransport;
@@ -16,7 +30,9 @@ import tech.ydb.jdbc.YdbDriverInfo;
 import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.common.JdbcDriverVersion;
+import tech.ydb.jdbc.common.VirtualThreads;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.YdbTracerImpl;
 import tech.ydb.jdbc.impl.YdbTracerNone;
 import tech.ydb.jdbc.query.QueryKey;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
@@ -55,14 +71,19 @@ public class YdbContext implements AutoCloseable {
     private final GrpcTransport grpcTransport;
     private final PooledTableClient tableClient;
     private final QueryClientImpl queryClient;
+    private final ReadOnlyClients readOnlyClients;
     private final SchemeClient schemeClient;
     private final String prefixPath;
     private final String prefixPragma;
 
     private final boolean autoResizeSessionPool;
+    private final SessionPoolController sessionPoolController;
     private final AtomicInteger connectionsCount = new AtomicInteger();
 
     private final YdbQueryExtentionService querySpi;
+    private final Cache<QueryKey, AdaptiveBatchSplit> batchSplits;
+    private final ExecutorService virtualExecutor;
+    private final Executor callbackExecutor;
 
     private YdbContext(
             YdbConfig config,
@@ -71,16 +92,28 @@ public class YdbContext implements AutoCloseable {
             GrpcTransport transport,
             PooledTableClient tableClient,
             QueryClientImpl queryClient,
+            ReadOnlyClients readOnlyClients,
+            YdbClientProperties clientProperties,
             boolean autoResize
     ) {
         this.config = config;
 
         this.operationOptions = operationProperties;
-        this.autoResizeSessionPool = autoResize;
+        if (clientProperties.isSessionPoolAdaptive()) {
+            // pool size is controlled by the wait time of sessions instead of the count of connections
+            this.autoResizeSessionPool = false;
+            this.sessionPoolController = new SessionPoolController(tableClient, queryClient,
+                    clientProperties.getSessionPoolAdaptiveTargetWait(), clientProperties.getSessionPoolMinSize(),
+                    clientProperties.getSessionPoolAdaptiveLimit(), transport.getScheduler());
+        } else {
+            this.autoResizeSessionPool = autoResize;
+            this.sessionPoolController = SessionPoolController.disabled();
+        }
 
         this.grpcTransport = transport;
         this.tableClient = tableClient;
         this.queryClient = queryClient;
+        this.readOnlyClients = readOnlyClients;
         this.schemeClient = SchemeClient.newClient(transport).build();
 
         if (config.hasPrefixPath()) {
@@ -97,13 +130,25 @@ public class YdbContext implements AutoCloseable {
         if (queryRewriteTable != null && !queryRewriteTable.isEmpty()) {
             String tablePath = joined(prefixPath, queryRewriteTable);
             this.cache = new YdbQueryRewriteCache(this, tablePath, operationOptions.getQueryRewriteTtl(),
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+                    queryProperties, config);
         } else {
-            this.cache = new YdbCache(this,
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+            this.cache = new YdbCache(this, queryProperties, config);
         }
 
         this.querySpi = YdbServiceLoader.loadQuerySpi();
+
+        // results of asynchronous queries and parts of publishers are handled outside of the gRPC threads
+        this.virtualExecutor = config.isUseVirtualThreads()
+                ? VirtualThreads.newPerTaskExecutor("ydb-jdbc-callback[" + config.hashCode() + "]-thread-") : null;
+        this.callbackExecutor = virtualExecutor != null ? virtualExecutor : ForkJoinPool.commonPool();
+
+        int cacheSize = config.getPreparedStatementsCachecSize();
+        if (operationOptions.getBatchAdaptiveSplit() && cacheSize > 0) {
+            // the size of split is learned by many executeBatch calls, usually of different statements
+            this.batchSplits = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        } else {
+            this.batchSplits = null;
+        }
     }
 
     public YdbTypes getTypes() {
@@ -122,6 +167,29 @@ public class YdbContext implements AutoCloseable {
         return config.isTxTracedEnabled() ? YdbTracer.current() : YdbTracerNone.DISABLED;
     }
 
+    /**
+     * @return new tracer of the query which is completed outside of the caller thread, the tracer isn't bound to any
+     * thread and must be closed by the query
+     */
+    public YdbTracer createDetachedTracer() {
+        return config.isTxTracedEnabled() ? new YdbTracerImpl() : YdbTracerNone.DISABLED;
+    }
+
+    /**
+     * @param query parsed query
+     * @return state of adaptive split of batches shared by all statements with the same query or {@code null} if
+     * the adaptive split is disabled
+     */
+    public AdaptiveBatchSplit getBatchSplit(YdbQuery query) {
+        if (!operationOptions.getBatchAdaptiveSplit()) {
+            return null;
+        }
+        if (batchSplits == null) {
+            return new AdaptiveBatchSplit();
+        }
+        return batchSplits.asMap().computeIfAbsent(query.getKey(), key -> new AdaptiveBatchSplit());
+    }
+
     public YdbQueryExtentionService getQuerySpi() {
         return querySpi;
     }
@@ -150,6 +218,22 @@ public class YdbContext implements AutoCloseable {
         return queryClient;
     }
 
+    /**
+     * @return client for read-only transactions, it is the same as {@link #getTableClient()} if option
+     * {@code readOnlyRouting} is disabled
+     */
+    public TableClient getReadOnlyTableClient() {
+        return readOnlyClients != null ? readOnlyClients.getTableClient() : tableClient;
+    }
+
+    /**
+     * @return client for read-only transactions, it is the same as {@link #getQueryClient()} if option
+     * {@code readOnlyRouting} is disabled
+     */
+    public QueryClient getReadOnlyQueryClient() {
+        return readOnlyClients != null ? readOnlyClients.getQueryClient() : queryClient;
+    }
+
     public String getUrl() {
         return config.getUrl();
     }
@@ -177,20 +261,47 @@ public class YdbContext implements AutoCloseable {
         return connectionsCount.get();
     }
 
+    public SessionPoolController getSessionPoolController() {
+        return sessionPoolController;
+    }
+
     public YdbOperationProperties getOperationProperties() {
         return operationOptions;
     }
 
+    /**
+     * @return executor of the callbacks of asynchronous queries, it uses virtual threads if the option
+     * useVirtualThreads is enabled and the common ForkJoinPool otherwise
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public void close() {
+        try {
+            cache.close();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Unable to save cache: " + e.getMessage(), e);
+        }
+
+        sessionPoolController.close();
+
         try {
             schemeClient.close();
+            if (readOnlyClients != null) {
+                readOnlyClients.close();
+            }
             queryClient.close();
             tableClient.close();
             grpcTransport.close();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Unable to close client: " + e.getMessage(), e);
         }
+
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
     }
 
     public boolean hasConnections() {
@@ -227,15 +338,71 @@ public class YdbContext implements AutoCloseable {
 
     public static YdbContext createContext(YdbConfig config) throws SQLException {
         LOGGER.log(Level.FINE, "Creating new YDB context to {0}", config.getConnectionString());
-        GrpcTransport transport = null;
 
         YdbConnectionProperties connProps = new YdbConnectionProperties(config);
         YdbClientProperties clientProps = new YdbClientProperties(config);
         YdbOperationProperties operProps = new YdbOperationProperties(config);
         YdbQueryProperties queryProps = new YdbQueryProperties(config);
 
+        GrpcTransport transport = createTransport(config, connProps, config.getConnectionString(), null);
+        ReadOnlyClients readOnly = null;
+
         try {
-            GrpcTransportBuilder builder = GrpcTransport.forConnectionString(config.getConnectionString());
+            PooledTableClient.Builder tb = PooledTableClient.newClient(GrpcTableRpc.useTransport(transport));
+            QueryClientImpl.Builder qb = QueryClientImpl.newClient(transport);
+            connProps.applyToClients(tb, qb);
+            boolean autoResize = clientProps.applyToTableClient(tb, qb);
+
+            if (config.isReadOnlyRouting()) {
+                readOnly = createReadOnlyClients(config, connProps, clientProps);
+            }
+
+            YdbContext ctx = new YdbContext(config, operProps, queryProps, transport, tb.build(), qb.build(),
+                    readOnly, clientProps, autoResize);
+            if (clientProps.isSessionPoolWarmup()) {
+                CompletableFuture<Void> warmup = ctx.warmup(clientProps.getSessionPoolMinSize());
+                if (clientProps.isSessionPoolWarmupWait()) {
+                    warmup.join();
+                }
+            }
+            return ctx;
+        } catch (SQLException | RuntimeException ex) {
+            if (readOnly != null) {
+                readOnly.close();
+            }
+            transport.close();
+            throw ex;
+        }
+    }
+
+    private static ReadOnlyClients createReadOnlyClients(YdbConfig config, YdbConnectionProperties connProps,
+            YdbClientProperties clientProps) throws SQLException {
+        String connectionString = config.getReadOnlyConnectionString();
+        LOGGER.log(Level.FINE, "Creating read-only transport to {0}", connectionString);
+
+        GrpcTransport transport = createTransport(config, connProps, connectionString,
+                config.getReadOnlyLocalDatacenter());
+        try {
+            PooledTableClient.Builder tb = PooledTableClient.newClient(GrpcTableRpc.useTransport(transport));
+            QueryClientImpl.Builder qb = QueryClientImpl.newClient(transport);
+            connProps.applyToClients(tb, qb);
+            clientProps.applyToTableClient(tb, qb);
+
+            // read-only pool has its own fixed size, it doesn't depend on the count of connections
+            int maxSize = clientProps.getReadOnlySessionPoolSize();
+            tb.sessionPoolSize(0, maxSize);
+            qb.sessionPoolMaxSize(maxSize).sessionPoolMinSize(0);
+            return new ReadOnlyClients(transport, tb.build(), qb.build());
+        } catch (RuntimeException ex) {
+            transport.close();
+            throw ex;
+        }
+    }
+
+    private static GrpcTransport createTransport(YdbConfig config, YdbConnectionProperties connProps,
+            String connectionString, String localDatacenter) throws SQLException {
+        try {
+            GrpcTransportBuilder builder = GrpcTransport.forConnectionString(connectionString);
             JdbcDriverVersion version = JdbcDriverVersion.getInstance();
             if (version.isSdkVersion(2, 3, 30)) {
                 // this method is available only on SDK 2.3.30+
@@ -246,20 +413,44 @@ public class YdbContext implements AutoCloseable {
                 builder.withExtraBuildInfo("ydb-jdbc-driver/" + YdbDriverInfo.DRIVER_VERSION);
             }
             connProps.applyToGrpcTransport(builder);
+            if (localDatacenter != null && !localDatacenter.isEmpty()) {
+                builder.withBalancingSettings(BalancingSettings.fromLocation(localDatacenter));
+            }
 
             // Use custom single thread scheduler
             // because JDBC driver doesn't need to execute retries except for DISCOVERY
-            builder.withSchedulerFactory(() -> {
+            Supplier<ScheduledExecutorService> schedulerFactory = () -> {
                 final String namePrefix = "ydb-jdbc-scheduler[" + config.hashCode() + "]-thread-";
+                if (config.isUseVirtualThreads()) {
+                    // the scheduler keeps its two workers, virtual threads only don't occupy platform threads
+                    ThreadFactory virtual = VirtualThreads.newFactory(namePrefix);
+                    if (virtual != null) {
+                        return Executors.newScheduledThreadPool(2, virtual);
+                    }
+                    LOGGER.log(Level.WARNING, "Option useVirtualThreads is ignored, virtual threads are not supported");
+                }
+
                 final AtomicInteger threadNumber = new AtomicInteger(1);
                 return Executors.newScheduledThreadPool(2, (Runnable r) -> {
                     Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
                     t.setDaemon(true);
                     return t;
                 });
-            });
+            };
+
+            builder.withSchedulerFactory(schedulerFactory);
 
-            transport = config.isUseDiscovery() ? builder.build() : new SingleChannelTransport(builder);
+            if (config.isUseDiscovery()) {
+                return builder.build();
+            }
+
+            int channelsCount = config.getGrpcChannelsCount();
+            if (channelsCount <= 1) {
+                return new SingleChannelTransport(builder);
+            }
+
+            // all channels use one scheduler, it is owned and shut down by the multi channel transport
+            return MultiChannelTransport.create(builder, schedulerFactory.get(), channelsCount);
         } catch (RuntimeException ex) {
             StringBuilder sb = new StringBuilder("Cannot connect to YDB: ").append(ex.getMessage());
             Throwable cause = ex.getCause();
@@ -269,17 +460,52 @@ public class YdbContext implements AutoCloseable {
             }
             throw new SQLException(sb.toString(), ex);
         }
+    }
 
-        try {
-            PooledTableClient.Builder tb = PooledTableClient.newClient(GrpcTableRpc.useTransport(transport));
-            QueryClientImpl.Builder qb = QueryClientImpl.newClient(transport);
-            connProps.applyToClients(tb, qb);
-            boolean autoResize = clientProps.applyToTableClient(tb, qb);
-            return new YdbContext(config, operProps, queryProps, transport, tb.build(), qb.build(), autoResize);
-        } catch (SQLException | RuntimeException ex) {
-            transport.close();
-            throw ex;
+    /**
+     * Creates sessions of the pool and reads the version of database in background, so the first queries don't wait
+     * for them. Errors of warmup are only logged, the sessions will be created by the queries as usual.
+     */
+    private CompletableFuture<Void> warmup(int minSize) {
+        int count = Math.min(minSize, tableClient.sessionPoolStats().getMaxSize());
+        Duration timeout = operationOptions.getSessionTimeout();
+
+        CompletableFuture<Void> sessions = config.isUseQueryService()
+                ? warmupSessions(count, () -> queryClient.createSession(timeout))
+                : warmupSessions(count, () -> tableClient.createSession(timeout));
+
+        return sessions
+                .thenRunAsync(cache::getDatabaseVersion)
+                .exceptionally(th -> {
+                    LOGGER.log(Level.WARNING, "Unable to warm up session pool: " + th.getMessage(), th);
+                    return null;
+                });
+    }
+
+    private static <T extends AutoCloseable> CompletableFuture<Void> warmupSessions(int count,
+            Supplier<CompletableFuture<Result<T>>> factory) {
+        List<CompletableFuture<Result<T>>> futures = new ArrayList<>(count);
+        // all sessions are held until the last one is created, so the pool can't reuse them
+        for (int idx = 0; idx < count; idx++) {
+            futures.add(factory.get());
         }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((res, th) -> {
+            int created = 0;
+            for (CompletableFuture<Result<T>> future : futures) {
+                Result<T> result = future.isCompletedExceptionally() ? null : future.join();
+                if (result != null && result.isSuccess()) {
+                    created++;
+                    try {
+                        result.getValue().close();
+                    } catch (Exception ex) {
+                        LOGGER.log(Level.FINE, "Unable to release warmed up session", ex);
+                    }
+                }
+            }
+            LOGGER.log(Level.FINE, "Session pool warmed up with {0} of {1} sessions", new Object[] { created, count });
+            return null;
+        });
     }
 
     public <T extends RequestSettings<?>> T withDefaultTimeout(T settings) {
@@ -316,6 +542,18 @@ public class YdbContext implements AutoCloseable {
         return cache.getQueryStats();
     }
 
+    public YdbCacheStats getQueriesCacheStats() {
+        return cache.getQueriesCacheStats();
+    }
+
+    public YdbCacheStats getQueryParamsCacheStats() {
+        return cache.getQueryParamsCacheStats();
+    }
+
+    public YdbCacheStats getTableDescribeCacheStats() {
+        return cache.getTableDescribeCacheStats();
+    }
+
     public YdbQuery createYdbQuery(String query) throws SQLException {
         return YdbQuery.parseQuery(new QueryKey(query), cache.getQueryOptions(), types);
     }
@@ -327,4 +565,8 @@ public class YdbContext implements AutoCloseable {
     public YdbPreparedQuery prepareYdbQuery(YdbQuery query, YdbPrepareMode mode) throws SQLException {
         return cache.prepareYdbQuery(query, mode);
     }
+
+    public void invalidateQuerySchema(YdbQuery query) {
+        cache.invalidateSchema(query);
+    }
 }
@@ -1,13 +1,19 @@
 package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import tech.ydb.common.transaction.YdbTransaction;
+import tech.ydb.core.Status;
+import tech.ydb.jdbc.YdbFlow;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.values.ListValue;
 
 /**
@@ -33,11 +39,19 @@ public interface YdbExecutor {
 
     YdbQueryResult executeSchemeQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
     YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path, ListValue rows) throws SQLException;
+    CompletableFuture<Status> executeBulkUpsertAsync(YdbStatement st, String path, ListValue rows) throws SQLException;
     YdbQueryResult executeExplainQuery(YdbStatement st, YdbQuery query) throws SQLException;
     YdbQueryResult executeScanQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
     YdbQueryResult executeDataQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
+    YdbQueryResult executeDataQueryAndCommit(YdbStatement st, YdbQuery query, String yql, Params prms)
+            throws SQLException;
     YdbResultSetMemory[] executeInMemoryQuery(YdbStatement st, YdbQuery query, String yql, Params prms)
             throws SQLException;
+    List<YdbResultSetMemory[]> executeInMemoryQueries(YdbStatement st, YdbQuery query, Function<Params, String> yql,
+            List<Params> prms, int parallelism) throws SQLException;
+    CompletableFuture<YdbResultSetMemory[]> executeInMemoryQueryAsync(YdbStatement st, YdbQuery query, String yql,
+            Params prms);
+    YdbFlow.Publisher<ResultSetReader> publishDataQuery(YdbStatement st, YdbQuery query, String yql, Params prms);
 
     void commit(YdbContext ctx, YdbValidator validator) throws SQLException;
     void rollback(YdbContext ctx, YdbValidator validator) throws SQLException;
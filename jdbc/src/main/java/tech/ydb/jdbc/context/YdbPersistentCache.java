@@ -0,0 +1,338 @@
+package tech.ydb.jdbc.context;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.io.CountingInputStream;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.description.TableColumn;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.proto.ProtoType;
+
+/**
+ * File storage of the query parameter types and table descriptions, which allows to skip the prepare and describe
+ * requests after the restart of application. The content of the file is valid only for the same database and the
+ * same server version, otherwise it is ignored. Table descriptions are stored partially, only with columns and
+ * primary key, because only these fields are used by driver.
+ * <p>
+ * Every entry keeps the time when it was received from the server. The file cannot detect the schema changes, so
+ * the entries older than {@link #ENTRY_TTL_MILLIS} are ignored and requested again. Besides that the entries of the
+ * query are dropped by {@link #drop} when its execution fails with the scheme error, so the changed schema is
+ * requested again without waiting for the end of TTL. Only entries used by the current run of application are saved,
+ * so unused and dropped entries leave the file after the next restart.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class YdbPersistentCache {
+    static final long ENTRY_TTL_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    private static final Logger LOGGER = Logger.getLogger(YdbPersistentCache.class.getName());
+
+    private static final int MAGIC = 0x5944424A; // YDBJ
+    private static final int FORMAT_VERSION = 2;
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    private final Path path;
+    private final String database;
+    private final String version;
+
+    private final Map<String, Entry<Map<String, Type>>> queryParams;
+    private final Map<String, Entry<TableDescription>> tables;
+
+    private YdbPersistentCache(Path path, String database, String version,
+            Map<String, Entry<Map<String, Type>>> params, Map<String, Entry<TableDescription>> tables) {
+        this.path = path;
+        this.database = database;
+        this.version = version;
+        this.queryParams = params;
+        this.tables = tables;
+    }
+
+    Map<String, Type> getQueryParams(String query) {
+        Entry<Map<String, Type>> entry = queryParams.get(query);
+        return entry != null ? entry.value : null;
+    }
+
+    TableDescription getTableDescription(String tablePath) {
+        Entry<TableDescription> entry = tables.get(tablePath);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Drops the loaded entries which may be outdated, so the next usage requests them from the server
+     *
+     * @param query origin text of query
+     * @param tablePath path of the table used by query or {@code null}
+     */
+    void drop(String query, String tablePath) {
+        queryParams.remove(query);
+        if (tablePath != null) {
+            tables.remove(tablePath);
+        }
+    }
+
+    /**
+     * Saves the given entries to the file. Entries taken from the loaded file keep their original time, other
+     * entries are marked by the current time. The file is replaced atomically, so the concurrent readers never see
+     * a partially written file.
+     *
+     * @param params current parameter types of queries
+     * @param descriptions current table descriptions
+     * @param limit maximum count of saved entries of every kind
+     */
+    void save(Map<String, Map<String, Type>> params, Map<String, TableDescription> descriptions, int limit) {
+        if (UNKNOWN_VERSION.equals(version)) {
+            // without server version the file cannot be validated on the next start
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, Entry<Map<String, Type>>> savedParams = withTime(params, queryParams, now, limit);
+        Map<String, Entry<TableDescription>> savedTables = withTime(descriptions, tables, now, limit);
+
+        Path tmp = null;
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, database);
+                writeString(out, version);
+
+                out.writeInt(savedParams.size());
+                for (Map.Entry<String, Entry<Map<String, Type>>> entry: savedParams.entrySet()) {
+                    writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue().time);
+                    Map<String, Type> types = entry.getValue().value;
+                    out.writeInt(types.size());
+                    for (Map.Entry<String, Type> param: types.entrySet()) {
+                        writeString(out, param.getKey());
+                        writeType(out, param.getValue());
+                    }
+                }
+
+                out.writeInt(savedTables.size());
+                for (Map.Entry<String, Entry<TableDescription>> entry: savedTables.entrySet()) {
+                    writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue().time);
+                    TableDescription description = entry.getValue().value;
+                    List<TableColumn> columns = description.getColumns();
+                    out.writeInt(columns.size());
+                    for (TableColumn column: columns) {
+                        writeString(out, column.getName());
+                        writeType(out, column.getType());
+                    }
+                    List<String> keys = description.getPrimaryKeys();
+                    out.writeInt(keys.size());
+                    for (String key: keys) {
+                        writeString(out, key);
+                    }
+                }
+            }
+
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.log(Level.FINE, "Saved {0} queries and {1} tables to persistent cache {2}",
+                    new Object[] {savedParams.size(), savedTables.size(), path});
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot save persistent cache " + path, ex);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Cannot delete temporary file " + tmp, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the cache from the file. Missing, broken or outdated file is not an error, the cache is just empty in
+     * this case.
+     *
+     * @param file path to the cache file
+     * @param database name of database
+     * @param version server version of database
+     * @return loaded cache
+     */
+    static YdbPersistentCache load(String file, String database, String version) {
+        return load(file, database, version, ENTRY_TTL_MILLIS);
+    }
+
+    static YdbPersistentCache load(String file, String database, String version, long ttlMillis) {
+        Path cachePath = Paths.get(file);
+        // loaded entries are read and dropped concurrently by the connections
+        Map<String, Entry<Map<String, Type>>> params = new ConcurrentHashMap<>();
+        Map<String, Entry<TableDescription>> descriptions = new ConcurrentHashMap<>();
+        long expired = System.currentTimeMillis() - ttlMillis;
+
+        if (UNKNOWN_VERSION.equals(version) || !Files.isRegularFile(cachePath)) {
+            return new YdbPersistentCache(cachePath, database, version, params, descriptions);
+        }
+
+        try (CacheInput in = new CacheInput(Files.newInputStream(cachePath), Files.size(cachePath))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                LOGGER.log(Level.INFO, "Persistent cache {0} has unknown format and will be overwritten", cachePath);
+                return new YdbPersistentCache(cachePath, database, version, params, descriptions);
+            }
+
+            String fileDatabase = readString(in);
+            String fileVersion = readString(in);
+            if (!database.equals(fileDatabase) || !version.equals(fileVersion)) {
+                LOGGER.log(Level.INFO, "Persistent cache {0} is outdated and will be overwritten", cachePath);
+                return new YdbPersistentCache(cachePath, database, version, params, descriptions);
+            }
+
+            int paramsCount = in.readInt();
+            for (int idx = 0; idx < paramsCount; idx++) {
+                String query = readString(in);
+                long time = in.readLong();
+                int typesCount = in.readInt();
+                Map<String, Type> types = new HashMap<>();
+                for (int typeIdx = 0; typeIdx < typesCount; typeIdx++) {
+                    String name = readString(in);
+                    types.put(name, readType(in));
+                }
+                if (time >= expired) {
+                    params.put(query, new Entry<>(Collections.unmodifiableMap(types), time));
+                }
+            }
+
+            int tablesCount = in.readInt();
+            for (int idx = 0; idx < tablesCount; idx++) {
+                String tablePath = readString(in);
+                long time = in.readLong();
+                TableDescription.Builder builder = TableDescription.newBuilder();
+                int columnsCount = in.readInt();
+                for (int columnIdx = 0; columnIdx < columnsCount; columnIdx++) {
+                    String name = readString(in);
+                    Type type = readType(in);
+                    if (type.getKind() == Type.Kind.OPTIONAL) {
+                        builder.addNullableColumn(name, type.unwrapOptional());
+                    } else {
+                        builder.addNonnullColumn(name, type);
+                    }
+                }
+                int keysCount = in.readInt();
+                List<String> keys = new ArrayList<>();
+                for (int keyIdx = 0; keyIdx < keysCount; keyIdx++) {
+                    keys.add(readString(in));
+                }
+                builder.setPrimaryKeys(keys);
+                if (time >= expired) {
+                    descriptions.put(tablePath, new Entry<>(builder.build(), time));
+                }
+            }
+
+            LOGGER.log(Level.FINE, "Loaded {0} queries and {1} tables from persistent cache {2}",
+                    new Object[] {params.size(), descriptions.size(), cachePath});
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot read persistent cache " + cachePath + ", it will be overwritten", ex);
+            params.clear();
+            descriptions.clear();
+        }
+
+        return new YdbPersistentCache(cachePath, database, version, params, descriptions);
+    }
+
+    private static <T> Map<String, Entry<T>> withTime(Map<String, T> current, Map<String, Entry<T>> loaded,
+            long now, int limit) {
+        Map<String, Entry<T>> saved = new HashMap<>();
+        for (Map.Entry<String, T> entry: current.entrySet()) {
+            if (saved.size() >= limit) {
+                return saved;
+            }
+            Entry<T> stored = loaded.get(entry.getKey());
+            // the loaded value is reused as is, so the identity shows that it was not requested again
+            long time = stored != null && stored.value == entry.getValue() ? stored.time : now;
+            saved.put(entry.getKey(), new Entry<>(entry.getValue(), time));
+        }
+        return saved;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(CacheInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeType(DataOutputStream out, Type type) throws IOException {
+        writeBytes(out, type.toPb().toByteArray());
+    }
+
+    private static Type readType(CacheInput in) throws IOException {
+        return ProtoType.fromPb(ValueProtos.Type.parseFrom(readBytes(in)));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(CacheInput in) throws IOException {
+        int length = in.readInt();
+        // broken length must not allocate a huge array
+        if (length < 0 || length > in.remaining()) {
+            throw new EOFException("Unexpected length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Input stream of the cache file which knows the count of not read bytes. {@link InputStream#available()} cannot be
+     * used for that, it may return only the size of buffered content
+     */
+    private static class CacheInput extends DataInputStream {
+        private final CountingInputStream counter;
+        private final long size;
+
+        CacheInput(InputStream file, long size) {
+            this(new CountingInputStream(new BufferedInputStream(file)), size);
+        }
+
+        private CacheInput(CountingInputStream counter, long size) {
+            super(counter);
+            this.counter = counter;
+            this.size = size;
+        }
+
+        long remaining() {
+            return size - counter.getCount();
+        }
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final long time;
+
+        Entry(T value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.query.QueryKey;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.query.DataQueryResult;
@@ -58,11 +59,13 @@ public class YdbQueryRewriteCache extends YdbCache {
     private final Cache<QueryKey, CachedQuery> rewriteCache;
 
     public YdbQueryRewriteCache(YdbContext ctx, String tableName, Duration ttl, YdbQueryProperties options,
-            int cacheSize, boolean fullScanDetector) {
-        super(ctx, options, cacheSize, fullScanDetector);
+            YdbConfig config) {
+        super(ctx, options, config);
         this.rewriteTable = tableName;
         this.rewriteTtl = ttl;
-        this.rewriteCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        this.rewriteCache = CacheBuilder.newBuilder().maximumSize(config.getPreparedStatementsCachecSize())
+                .concurrencyLevel(QUERIES_CACHE_CONCURRENCY)
+                .build();
     }
 
     @Override
@@ -2,10 +2,10 @@ package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
 import java.sql.SQLWarning;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,7 +26,8 @@ import tech.ydb.jdbc.exception.ExceptionFactory;
 public class YdbValidator {
     private static final Logger LOGGER = Logger.getLogger(YdbValidator.class.getName());
 
-    private final List<Issue> issues = new ArrayList<>();
+    // issues of asynchronous queries are added by the callback threads
+    private final List<Issue> issues = new CopyOnWriteArrayList<>();
 
     public SQLWarning toSQLWarnings() {
         SQLWarning firstWarning = null;
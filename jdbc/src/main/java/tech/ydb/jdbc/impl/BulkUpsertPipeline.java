@@ -0,0 +1,116 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.jdbc.YdbTracer;
+import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+
+/**
+ * Chunks of BULK UPSERT sent by addBatch before the call of executeBatch. Count of chunks in flight is limited, the
+ * next chunk waits for completion of one of the previous ones, so memory used by a long batch stays bounded.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class BulkUpsertPipeline {
+    private final Semaphore inflight;
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    BulkUpsertPipeline(int maxInflight) {
+        this.inflight = new Semaphore(Math.max(1, maxInflight));
+    }
+
+    int rowsCount() {
+        int count = 0;
+        for (Chunk chunk: chunks) {
+            count += chunk.rowsCount;
+        }
+        return count;
+    }
+
+    void acquire() throws SQLException {
+        try {
+            inflight.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+
+    void release() {
+        inflight.release();
+    }
+
+    /**
+     * Adds sent chunk, the permit acquired by {@link #acquire() } is released on completion of the chunk
+     */
+    void add(int rowsCount, CompletableFuture<Status> future) {
+        chunks.add(new Chunk(rowsCount, future.whenComplete((status, th) -> inflight.release())));
+    }
+
+    /**
+     * Waits for completion of all sent chunks and fills update counts of their rows
+     *
+     * @param msg description of query for error messages
+     * @param validator validator of statement
+     * @param tracer tracer of connection
+     * @param counts update counts of batch, the chunks are placed at the beginning of array
+     * @throws BatchUpdateException if one of chunks is failed, rows of failed chunks are marked as
+     * {@link Statement#EXECUTE_FAILED}
+     */
+    void complete(String msg, YdbValidator validator, YdbTracer tracer, int[] counts) throws SQLException {
+        SQLException firstError = null;
+        int position = 0;
+        for (Chunk chunk: chunks) {
+            Status status = chunk.waitStatus();
+            validator.addStatusIssues(status);
+            tracer.trace("<-- chunk of " + chunk.rowsCount + " rows " + status.toString());
+
+            boolean isSuccess = status.isSuccess();
+            Arrays.fill(counts, position, position + chunk.rowsCount,
+                    isSuccess ? Statement.SUCCESS_NO_INFO : Statement.EXECUTE_FAILED);
+            position += chunk.rowsCount;
+
+            if (!isSuccess && firstError == null) {
+                firstError = ExceptionFactory.createException("Cannot execute '" + msg + "' with " + status,
+                        new UnexpectedResultException("Unexpected status", status));
+            }
+        }
+        chunks.clear();
+
+        if (firstError != null) {
+            Arrays.fill(counts, position, counts.length, Statement.EXECUTE_FAILED);
+            throw new BatchUpdateException(firstError.getMessage(), firstError.getSQLState(),
+                    firstError.getErrorCode(), counts, firstError);
+        }
+    }
+
+    private static class Chunk {
+        private final int rowsCount;
+        private final CompletableFuture<Status> future;
+
+        Chunk(int rowsCount, CompletableFuture<Status> future) {
+            this.rowsCount = rowsCount;
+            this.future = future;
+        }
+
+        Status waitStatus() {
+            try {
+                return future.join();
+            } catch (CompletionException ex) {
+                return Status.of(StatusCode.CLIENT_INTERNAL_ERROR, ex.getCause());
+            }
+        }
+    }
+}
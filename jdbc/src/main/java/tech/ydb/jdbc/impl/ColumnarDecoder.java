@@ -0,0 +1,86 @@
+package tech.ydb.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Collector of parts of query results which decodes every part into columnar arrays on the common ForkJoinPool as
+ * soon as the part is received, so decoding overlaps with the arrival of the next parts. The reader of the part is
+ * owned by its decoding task and is not used by anyone else until the result set is built.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class ColumnarDecoder {
+    private final YdbTypes types;
+    private final List<Parts> sets = new ArrayList<>();
+
+    public ColumnarDecoder(YdbTypes types) {
+        this.types = types;
+    }
+
+    /**
+     * Starts decoding of the received part
+     *
+     * @param index index of result set
+     * @param rsr part of result set
+     */
+    public synchronized void onPart(int index, ResultSetReader rsr) {
+        while (sets.size() <= index) {
+            sets.add(new Parts());
+        }
+
+        Parts parts = sets.get(index);
+        if (parts.columns == null) {
+            parts.columns = ColumnInfo.fromResultSetReader(types, rsr);
+        }
+        parts.readers.add(rsr);
+        parts.futures.add(ColumnarPart.decodeAsync(parts.columns, rsr));
+    }
+
+    /**
+     * Waits for decoding of all received parts of the result set
+     *
+     * @param statement owner statement
+     * @param index index of result set
+     * @return in-memory result set or {@code null} if no parts of this result set were received
+     */
+    public synchronized YdbResultSetMemory build(YdbStatement statement, int index) {
+        if (index >= sets.size() || sets.get(index).columns == null) {
+            return null;
+        }
+
+        Parts parts = sets.get(index);
+        ResultSetReader[] readers = parts.readers.toArray(new ResultSetReader[0]);
+        return YdbResultSetMemory.ofDecodedParts(statement, parts.columns, readers, parts.futures);
+    }
+
+    /**
+     * Waits for decoding of all received parts
+     *
+     * @param statement owner statement
+     * @return in-memory result sets in order of their indexes
+     */
+    public synchronized YdbResultSetMemory[] buildAll(YdbStatement statement) {
+        YdbResultSetMemory[] result = new YdbResultSetMemory[sets.size()];
+        for (int idx = 0; idx < result.length; idx += 1) {
+            result[idx] = build(statement, idx);
+            if (result[idx] == null) {
+                // result set without parts has no columns too
+                result[idx] = new YdbResultSetMemory(statement, new ColumnInfo[0], new ResultSetReader[0], null);
+            }
+        }
+        return result;
+    }
+
+    private static class Parts {
+        private final List<ResultSetReader> readers = new ArrayList<>();
+        private final List<CompletableFuture<ColumnarPart>> futures = new ArrayList<>();
+        private ColumnInfo[] columns = null;
+    }
+}
@@ -0,0 +1,345 @@
+package tech.ydb.jdbc.impl;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Materialized columnar copy of one result set part. Only columns of integer, floating point and text types are
+ * decoded; all other columns are still read via {@link ValueReader}. If all columns of the part are decoded, the
+ * copy is complete and the original part may be released
+ *
+ * @author Aleksandr Gorshenin
+ */
+class ColumnarPart {
+    private final ColumnInfo[] infos;
+    private final Column[] columns;
+    private final int rowCount;
+    private final boolean isComplete;
+
+    // reader of one row is created only for the getters which are not supported by columnar arrays
+    private int readerRow = -1;
+    private ResultSetReader rowReader = null;
+
+    private ColumnarPart(ColumnInfo[] infos, Column[] columns, int rowCount) {
+        this.infos = infos;
+        this.columns = columns;
+        this.rowCount = rowCount;
+
+        boolean complete = true;
+        for (Column column: columns) {
+            complete = complete && column != null;
+        }
+        this.isComplete = complete;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return true if all columns of the part are decoded
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Creates the reader of one row of complete part. The reader is reused while the same row is requested
+     *
+     * @param row zero based row index
+     * @return reader positioned on the row
+     */
+    public ResultSetReader readRow(int row) {
+        if (rowReader == null || readerRow != row) {
+            ValueProtos.ResultSet.Builder rs = ValueProtos.ResultSet.newBuilder();
+            ValueProtos.Value.Builder items = ValueProtos.Value.newBuilder();
+            for (int idx = 0; idx < columns.length; idx += 1) {
+                Type type = infos[idx].isOptional() ? infos[idx].getYdbType().makeOptional() : infos[idx].getYdbType();
+                rs.addColumns(ValueProtos.Column.newBuilder().setName(infos[idx].getName()).setType(type.toPb()));
+                items.addItems(columns[idx].toValue(row, infos[idx].isOptional()).toPb());
+            }
+            rowReader = ProtoValueReaders.forResultSet(rs.addRows(items).build());
+            rowReader.next();
+            readerRow = row;
+        }
+        return rowReader;
+    }
+
+    /**
+     * @param columnIndex zero based column index
+     * @return decoded column or null if the column type is not supported by columnar representation
+     */
+    public Column getColumn(int columnIndex) {
+        return columns[columnIndex];
+    }
+
+    public static ColumnarPart decode(ColumnInfo[] infos, ResultSetReader rsr) {
+        int rowCount = rsr.getRowCount();
+        Column[] decoded = new Column[infos.length];
+        for (int idx = 0; idx < infos.length; idx += 1) {
+            Kind kind = kindOf(infos[idx]);
+            if (kind != null) {
+                decoded[idx] = new Column(kind, (PrimitiveType) infos[idx].getYdbType(), rowCount);
+            }
+        }
+
+        for (int row = 0; row < rowCount; row += 1) {
+            rsr.setRowIndex(row);
+            for (int idx = 0; idx < decoded.length; idx += 1) {
+                Column column = decoded[idx];
+                if (column == null) {
+                    continue;
+                }
+                ValueReader value = rsr.getColumn(idx);
+                if (infos[idx].isOptional() && !value.isOptionalItemPresent()) {
+                    column.nulls.set(row);
+                    continue;
+                }
+                column.read(row, value, (PrimitiveType) infos[idx].getYdbType());
+            }
+        }
+
+        for (Column column: decoded) {
+            if (column != null) {
+                column.complete();
+            }
+        }
+
+        return new ColumnarPart(infos, decoded, rowCount);
+    }
+
+    /**
+     * Decodes the part on the common {@link ForkJoinPool}. The reader must not be used by other threads until the
+     * returned future is completed
+     *
+     * @param infos columns of the part
+     * @param rsr part to decode
+     * @return future of decoded part
+     */
+    public static CompletableFuture<ColumnarPart> decodeAsync(ColumnInfo[] infos, ResultSetReader rsr) {
+        return CompletableFuture.supplyAsync(() -> decode(infos, rsr), ForkJoinPool.commonPool());
+    }
+
+    private static Kind kindOf(ColumnInfo info) {
+        Type type = info.getYdbType();
+        if (type.getKind() != Type.Kind.PRIMITIVE) {
+            return null;
+        }
+
+        switch ((PrimitiveType) type) {
+            case Int8:
+            case Int16:
+            case Int32:
+            case Uint8:
+            case Uint16:
+                return Kind.INT;
+            case Int64:
+            case Uint32:
+                return Kind.LONG;
+            case Float:
+            case Double:
+                return Kind.DOUBLE;
+            case Text:
+                return Kind.TEXT;
+            default:
+                return null;
+        }
+    }
+
+    private enum Kind {
+        INT,
+        LONG,
+        DOUBLE,
+        TEXT,
+    }
+
+    public static class Column {
+        private final Kind kind;
+        private final PrimitiveType type;
+        private final boolean isFloat;
+        private final BitSet nulls = new BitSet();
+
+        private final int[] ints;
+        private final long[] longs;
+        private final double[] doubles;
+
+        private Map<String, Integer> dictionaryIndex;
+        private String[] dictionary;
+
+        Column(Kind kind, PrimitiveType type, int rowCount) {
+            this.kind = kind;
+            this.type = type;
+            this.isFloat = type == PrimitiveType.Float;
+            this.ints = kind == Kind.INT || kind == Kind.TEXT ? new int[rowCount] : null;
+            this.longs = kind == Kind.LONG ? new long[rowCount] : null;
+            this.doubles = kind == Kind.DOUBLE ? new double[rowCount] : null;
+            this.dictionaryIndex = kind == Kind.TEXT ? new HashMap<>() : null;
+        }
+
+        private void read(int row, ValueReader value, PrimitiveType type) {
+            switch (type) {
+                case Int8:
+                    ints[row] = value.getInt8();
+                    break;
+                case Int16:
+                    ints[row] = value.getInt16();
+                    break;
+                case Int32:
+                    ints[row] = value.getInt32();
+                    break;
+                case Uint8:
+                    ints[row] = value.getUint8();
+                    break;
+                case Uint16:
+                    ints[row] = value.getUint16();
+                    break;
+                case Int64:
+                    longs[row] = value.getInt64();
+                    break;
+                case Uint32:
+                    longs[row] = value.getUint32();
+                    break;
+                case Float:
+                    doubles[row] = value.getFloat();
+                    break;
+                case Double:
+                    doubles[row] = value.getDouble();
+                    break;
+                case Text:
+                    String text = value.getText();
+                    Integer code = dictionaryIndex.get(text);
+                    if (code == null) {
+                        code = dictionaryIndex.size();
+                        dictionaryIndex.put(text, code);
+                    }
+                    ints[row] = code;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void complete() {
+            if (dictionaryIndex != null) {
+                dictionary = new String[dictionaryIndex.size()];
+                for (Map.Entry<String, Integer> entry: dictionaryIndex.entrySet()) {
+                    dictionary[entry.getValue()] = entry.getKey();
+                }
+                dictionaryIndex = null;
+            }
+        }
+
+        private Value<?> toValue(int row, boolean isOptional) {
+            if (nulls.get(row)) {
+                return type.makeOptional().emptyValue();
+            }
+
+            Value<?> value;
+            switch (type) {
+                case Int8:
+                    value = PrimitiveValue.newInt8((byte) ints[row]);
+                    break;
+                case Int16:
+                    value = PrimitiveValue.newInt16((short) ints[row]);
+                    break;
+                case Int32:
+                    value = PrimitiveValue.newInt32(ints[row]);
+                    break;
+                case Uint8:
+                    value = PrimitiveValue.newUint8(ints[row]);
+                    break;
+                case Uint16:
+                    value = PrimitiveValue.newUint16(ints[row]);
+                    break;
+                case Int64:
+                    value = PrimitiveValue.newInt64(longs[row]);
+                    break;
+                case Uint32:
+                    value = PrimitiveValue.newUint32(longs[row]);
+                    break;
+                case Float:
+                    value = PrimitiveValue.newFloat((float) doubles[row]);
+                    break;
+                case Double:
+                    value = PrimitiveValue.newDouble(doubles[row]);
+                    break;
+                default:
+                    value = PrimitiveValue.newText(dictionary[ints[row]]);
+                    break;
+            }
+            return isOptional ? value.makeOptional() : value;
+        }
+
+        public boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        public boolean hasInt() {
+            return kind == Kind.INT || kind == Kind.DOUBLE;
+        }
+
+        public boolean hasLong() {
+            return kind != Kind.TEXT;
+        }
+
+        public boolean hasDouble() {
+            return kind != Kind.TEXT;
+        }
+
+        public boolean hasString() {
+            return kind != Kind.DOUBLE || !isFloat;
+        }
+
+        public int getInt(int row) {
+            return kind == Kind.INT ? ints[row] : (int) doubles[row];
+        }
+
+        public long getLong(int row) {
+            switch (kind) {
+                case INT:
+                    return ints[row];
+                case LONG:
+                    return longs[row];
+                default:
+                    return (long) doubles[row];
+            }
+        }
+
+        public double getDouble(int row) {
+            switch (kind) {
+                case INT:
+                    return ints[row];
+                case LONG:
+                    return longs[row];
+                default:
+                    return doubles[row];
+            }
+        }
+
+        public String getString(int row) {
+            switch (kind) {
+                case INT:
+                    return String.valueOf(ints[row]);
+                case LONG:
+                    return String.valueOf(longs[row]);
+                case DOUBLE:
+                    return String.valueOf(doubles[row]);
+                default:
+                    return dictionary[ints[row]];
+            }
+        }
+    }
+}
@@ -41,11 +41,16 @@ public class YdbConnectionImpl implements YdbConnection {
     private final YdbContext ctx;
     private final YdbValidator validator;
     private final YdbExecutor executor;
+    private final YdbStatementCache statementCache;
 
     public YdbConnectionImpl(YdbContext context) throws SQLException {
         this.ctx = context;
         this.validator = new YdbValidator();
         this.executor = ctx.createExecutor();
+        this.statementCache = YdbStatementCache.create(
+                ctx.getOperationProperties().getStatementCacheQueries(),
+                ctx.getOperationProperties().getStatementCacheSizeMiB()
+        );
         this.ctx.register();
     }
 
@@ -109,6 +114,9 @@ public class YdbConnectionImpl implements YdbConnection {
 
         commit(); // like Oracle
         validator.clearWarnings();
+        if (statementCache != null) {
+            statementCache.clear();
+        }
         executor.close();
         ctx.deregister();
     }
@@ -257,6 +265,15 @@ public class YdbConnectionImpl implements YdbConnection {
             throws SQLException {
 
         validator.clearWarnings();
+        if (statementCache != null) {
+            YdbStatementCache.Entry cached = statementCache.take(key, mode);
+            if (cached == null) {
+                YdbQuery query = ctx.parseYdbQuery(key);
+                cached = new YdbStatementCache.Entry(key, mode, query, ctx.prepareYdbQuery(query, mode));
+            }
+            return new YdbPreparedStatementImpl(this, statementCache, cached, resultSetType);
+        }
+
         YdbQuery query = ctx.parseYdbQuery(key);
         YdbPreparedQuery params = ctx.prepareYdbQuery(query, mode);
         return new YdbPreparedStatementImpl(this, query, params, resultSetType);
@@ -6,6 +6,7 @@ import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
+import java.sql.BatchUpdateException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
@@ -20,36 +21,209 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Logger;
 
+import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbFlow;
 import tech.ydb.jdbc.YdbParameterMetaData;
 import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.common.MappingSetters;
+import tech.ydb.jdbc.context.AdaptiveBatchSplit;
+import tech.ydb.jdbc.exception.YdbStatusable;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.ListValue;
 import tech.ydb.table.values.Type;
 
 public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPreparedStatement {
     private static final Logger LOGGER = Logger.getLogger(YdbPreparedStatementImpl.class.getName());
     private final YdbQuery query;
     private final YdbPreparedQuery prepared;
+    private final YdbStatementCache cache;
+    private final YdbStatementCache.Entry cacheEntry;
+
+    private final int bulkChunkRows;
+    private final long bulkChunkBytes;
+    private final int bulkInflight;
+    private final long batchSplitBytes;
+    private final AdaptiveBatchSplit batchSplit;
+    private BulkUpsertPipeline bulkPipeline = null;
+    private boolean isSchemeOutdated = false;
 
     public YdbPreparedStatementImpl(YdbConnection connection, YdbQuery query, YdbPreparedQuery prepared, int rsType) {
         super(LOGGER, connection, rsType, true); // is poolable by default
 
         this.query = Objects.requireNonNull(query);
         this.prepared = Objects.requireNonNull(prepared);
+        this.cache = null;
+        this.cacheEntry = null;
+
+        YdbOperationProperties props = connection.getCtx().getOperationProperties();
+        this.bulkChunkRows = props.getBulkUpsertChunkRows();
+        this.bulkChunkBytes = props.getBulkUpsertChunkSizeMiB() * 1024L * 1024L;
+        this.bulkInflight = props.getBulkUpsertInflight();
+        this.batchSplitBytes = props.getBatchSplitSizeMiB() * 1024L * 1024L;
+        this.batchSplit = connection.getCtx().getBatchSplit(query);
+        initBulkChunks();
+    }
+
+    YdbPreparedStatementImpl(YdbConnection connection, YdbStatementCache cache, YdbStatementCache.Entry entry,
+            int rsType) {
+        super(LOGGER, connection, rsType, true);
+
+        this.query = entry.getQuery();
+        this.prepared = entry.getPrepared();
+        this.cache = cache;
+        this.cacheEntry = entry;
+
+        YdbOperationProperties props = connection.getCtx().getOperationProperties();
+        this.bulkChunkRows = props.getBulkUpsertChunkRows();
+        this.bulkChunkBytes = props.getBulkUpsertChunkSizeMiB() * 1024L * 1024L;
+        this.bulkInflight = props.getBulkUpsertInflight();
+        this.batchSplitBytes = props.getBatchSplitSizeMiB() * 1024L * 1024L;
+        this.batchSplit = connection.getCtx().getBatchSplit(query);
+        initBulkChunks();
+    }
+
+    private void initBulkChunks() {
+        if (prepared instanceof BulkUpsertQuery) {
+            ((BulkUpsertQuery) prepared).setCountBatchBytes(bulkChunkBytes > 0);
+        }
+        updateSplitLimits();
+    }
+
+    private void updateSplitLimits() {
+        if (prepared instanceof BatchedQuery) {
+            int splitRows = batchSplit != null ? batchSplit.getRows() : 0;
+            ((BatchedQuery) prepared).setSplitLimits(batchSplitBytes, splitRows);
+        }
+    }
+
+    private void checkSchemeError(SQLException ex) {
+        Throwable source = ex instanceof BatchUpdateException && ex.getCause() != null ? ex.getCause() : ex;
+        if (!(source instanceof YdbStatusable)) {
+            return;
+        }
+        StatusCode code = ((YdbStatusable) source).getStatus().getCode();
+        if (code == StatusCode.SCHEME_ERROR || code == StatusCode.BAD_REQUEST) {
+            // the types of parameters or the table description are outdated, they must be requested again by the
+            // next prepare of this query, so the prepared query isn't returned to the statements cache too
+            isSchemeOutdated = true;
+            getConnection().getCtx().invalidateQuerySchema(query);
+        }
+    }
+
+    /**
+     * Update counts of the failed batch are reported by the executor for every request, the auto-batched query sends
+     * chunks of rows by one request, so the counts of chunks are copied to all their rows
+     */
+    private BatchUpdateException toRowCounts(BatchUpdateException ex, int rowsCount) {
+        int[] counts = ex.getUpdateCounts();
+        if (counts == null || counts.length == rowsCount || !(prepared instanceof BatchedQuery)) {
+            return ex;
+        }
+
+        int[] sizes = ((BatchedQuery) prepared).getChunkSizes();
+        if (sizes.length != counts.length) {
+            return ex;
+        }
+
+        int[] rows = new int[rowsCount];
+        int position = 0;
+        for (int idx = 0; idx < sizes.length; idx += 1) {
+            Arrays.fill(rows, position, position + sizes[idx], counts[idx]);
+            position += sizes[idx];
+        }
+        return new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), rows, ex.getCause());
+    }
+
+    private boolean isBulkChunkReady() {
+        if (query.getType() != QueryType.BULK_QUERY || !(prepared instanceof BulkUpsertQuery)) {
+            return false;
+        }
+        BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
+        return (bulkChunkRows > 0 && bulk.batchSize() >= bulkChunkRows)
+                || (bulkChunkBytes > 0 && bulk.getBatchBytes() >= bulkChunkBytes);
+    }
+
+    private void sendBulkChunk(BulkUpsertPipeline pipeline, BulkUpsertQuery bulk) throws SQLException {
+        for (ListValue rows: bulk.getBatchedBulks()) {
+            // waits here if there are too many chunks in flight
+            pipeline.acquire();
+            try {
+                pipeline.add(rows.size(), executeBulkUpsertAsync(bulk.getTablePath(), rows));
+            } catch (SQLException | RuntimeException ex) {
+                pipeline.release();
+                throw ex;
+            }
+        }
+        bulk.clearBatch();
+    }
+
+    private int[] completeBulkChunks(BulkUpsertQuery bulk) throws SQLException {
+        BulkUpsertPipeline pipeline = bulkPipeline;
+        bulkPipeline = null;
+
+        try {
+            if (bulk.batchSize() > 0) {
+                sendBulkChunk(pipeline, bulk);
+            }
+        } finally {
+            clearBatch();
+        }
+
+        int[] results = new int[pipeline.rowsCount()];
+        YdbTracer tracer = getConnection().getCtx().getTracer();
+        try {
+            pipeline.complete(QueryType.BULK_QUERY + " >>\n" + query.getPreparedYql(), getValidator(), tracer, results);
+        } finally {
+            if (!getConnection().getExecutor().isInsideTransaction()) {
+                tracer.close();
+            }
+        }
+
+        updateState(new YdbQueryResultStatic(query));
+        return results;
+    }
+
+    /**
+     * Waits for the chunks already sent by addBatch. Their rows are written without transaction and cannot be
+     * revoked, so the failed chunks are reported to the caller of clearBatch or close
+     */
+    private void completeSentChunks() throws SQLException {
+        BulkUpsertPipeline pipeline = bulkPipeline;
+        if (pipeline == null) {
+            return;
+        }
+        bulkPipeline = null;
+
+        YdbTracer tracer = getConnection().getCtx().getTracer();
+        try {
+            int[] results = new int[pipeline.rowsCount()];
+            pipeline.complete(QueryType.BULK_QUERY + " >>\n" + query.getPreparedYql(), getValidator(), tracer, results);
+        } finally {
+            if (!getConnection().getExecutor().isInsideTransaction()) {
+                tracer.close();
+            }
+        }
     }
 
     @Override
@@ -59,12 +233,23 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
 
     @Override
     public void addBatch() throws SQLException {
+        if (batchSplit != null && prepared.batchSize() == 0) {
+            // the size of split may be changed by other statements with the same query
+            updateSplitLimits();
+        }
         prepared.addBatch();
+        if (isBulkChunkReady()) {
+            if (bulkPipeline == null) {
+                bulkPipeline = new BulkUpsertPipeline(bulkInflight);
+            }
+            sendBulkChunk(bulkPipeline, (BulkUpsertQuery) prepared);
+        }
     }
 
     @Override
     public void clearBatch() throws SQLException {
         prepared.clearBatch();
+        completeSentChunks();
     }
 
     @Override
@@ -79,24 +264,43 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
 
     @Override
     public void close() throws SQLException {
+        boolean wasClosed = isClosed();
         clearParameters();
-        super.close();
+        // rows of not executed batch must not be executed by the next statement with the same text
+        prepared.clearBatch();
+        try {
+            completeSentChunks();
+        } finally {
+            super.close();
+
+            // the prepared query is cleared and may be reused by the next statement with the same text
+            if (!wasClosed && cache != null && isPoolable() && !isSchemeOutdated) {
+                cache.release(cacheEntry);
+            }
+        }
     }
 
     @Override
     public int[] executeBatch() throws SQLException {
         cleanState();
 
+        if (bulkPipeline != null) {
+            return completeBulkChunks((BulkUpsertQuery) prepared);
+        }
+
         int[] results = new int[prepared.batchSize()];
         if (results.length == 0) {
             return results;
         }
 
+        long startedAt = System.nanoTime();
         try {
             if (query.getType() == QueryType.BULK_QUERY && (prepared instanceof BulkUpsertQuery)) {
                 BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
-                YdbQueryResult newState = executeBulkUpsert(query, bulk.getTablePath(), bulk.getBatchedBulk());
-                updateState(newState);
+                for (ListValue rows: bulk.getBatchedBulks()) {
+                    YdbQueryResult newState = executeBulkUpsert(query, bulk.getTablePath(), rows);
+                    updateState(newState);
+                }
             } else {
                 List<Params> prms = prepared.getBatchParams();
                 if (prms.size() == 1) {
@@ -108,10 +312,20 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
                     updateState(newState);
                 }
             }
+        } catch (BatchUpdateException ex) {
+            checkSchemeError(ex);
+            throw toRowCounts(ex, results.length);
+        } catch (SQLException ex) {
+            checkSchemeError(ex);
+            throw ex;
         } finally {
             clearBatch();
         }
 
+        if (batchSplit != null) {
+            batchSplit.onBatch(results.length, System.nanoTime() - startedAt);
+        }
+
         Arrays.fill(results, SUCCESS_NO_INFO);
         return results;
     }
@@ -141,7 +355,12 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         Params prms = prepared.getCurrentParams();
         switch (query.getType()) {
             case DATA_QUERY:
-                newState = executeDataQuery(query, prepared.getQueryText(prms), prms);
+                try {
+                    newState = executeDataQuery(query, prepared.getQueryText(prms), prms);
+                } catch (SQLException ex) {
+                    checkSchemeError(ex);
+                    throw ex;
+                }
                 break;
             case SCAN_QUERY:
                 newState = executeScanQuery(query, prepared.getQueryText(prms), prms);
@@ -170,6 +389,73 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         return updateState(newState);
     }
 
+    @Override
+    public boolean executeAndCommit() throws SQLException {
+        if (query.getType() != QueryType.DATA_QUERY) {
+            // other queries are not executed inside of transaction
+            boolean hasResultSet = execute();
+            getConnection().commit();
+            return hasResultSet;
+        }
+
+        cleanState();
+        clearBatch();
+
+        Params prms = prepared.getCurrentParams();
+        YdbQueryResult newState = executeDataQueryAndCommit(query, prepared.getQueryText(prms), prms);
+        prepared.clearParameters();
+
+        return updateState(newState);
+    }
+
+    @Override
+    public CompletionStage<YdbQueryResult> executeQueryAsync() {
+        return expectResultSets(executeAsync(), true);
+    }
+
+    @Override
+    public CompletionStage<YdbQueryResult> executeUpdateAsync() {
+        return expectResultSets(executeAsync(), false);
+    }
+
+    @Override
+    public CompletionStage<YdbQueryResult> executeBatchAsync() {
+        if (prepared.batchSize() == 0) {
+            return CompletableFuture.completedFuture(new YdbQueryResultEmpty());
+        }
+
+        // batch list is cleared right after the call, so it must be copied
+        List<Params> prms = new ArrayList<>(prepared.getBatchParams());
+        try {
+            return executeBatchQueryAsync(query, prepared::getBatchText, prms);
+        } finally {
+            prepared.clearBatch();
+        }
+    }
+
+    @Override
+    public YdbFlow.Publisher<ResultSetReader> publishQuery() {
+        try {
+            Params prms = prepared.getCurrentParams();
+            String yql = prepared.getQueryText(prms);
+            prepared.clearParameters();
+            return publishDataQuery(query, yql, prms);
+        } catch (SQLException ex) {
+            return YdbQueryPublisher.failed(ex);
+        }
+    }
+
+    private CompletableFuture<YdbQueryResult> executeAsync() {
+        try {
+            Params prms = prepared.getCurrentParams();
+            String yql = prepared.getQueryText(prms);
+            prepared.clearParameters();
+            return executeDataQueryAsync(query, yql, prms);
+        } catch (SQLException ex) {
+            return failedFuture(ex);
+        }
+    }
+
     @Override
     public YdbResultSet executeScanQuery() throws SQLException {
         cleanState();
@@ -0,0 +1,314 @@
+package tech.ydb.jdbc.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.jdbc.YdbFlow;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.query.QueryStream;
+import tech.ydb.query.result.QueryResultPart;
+import tech.ydb.query.result.QueryStats;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Cold publisher of the result set parts of the stream query. The query is started by the subscription and the
+ * messages of the stream are requested from the server only by the demand of the subscriber, so the consumer
+ * controls the speed of the stream without blocking any thread. Parts of all result sets of the query are published
+ * in order of receiving. Signals caused by the stream are delivered to the subscriber by the given executor, so the
+ * subscriber never runs on the gRPC threads.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public abstract class YdbQueryPublisher implements YdbFlow.Publisher<ResultSetReader> {
+    private static final Logger LOGGER = Logger.getLogger(YdbQueryPublisher.class.getName());
+
+    private final String msg;
+    private final Executor executor;
+    private final AtomicBoolean isSubscribed = new AtomicBoolean(false);
+
+    public YdbQueryPublisher(String msg, Executor executor) {
+        this.msg = msg;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the stream of the query, the stream must use the given flow control
+     *
+     * @param flowControl flow control of the subscription
+     * @return future with the created stream
+     */
+    protected abstract CompletableFuture<Result<QueryStream>> createStream(GrpcFlowControl flowControl);
+
+    protected void onQueryStats(QueryStats stats) {
+        // nothing
+    }
+
+    protected void onClose(Status status, Throwable th) {
+        // nothing
+    }
+
+    @Override
+    public void subscribe(YdbFlow.Subscriber<? super ResultSetReader> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("Query publisher supports only one subscriber"));
+            return;
+        }
+
+        PartsSubscription subscription = new PartsSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    public static YdbFlow.Publisher<ResultSetReader> failed(Throwable th) {
+        return subscriber -> {
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onError(th);
+        };
+    }
+
+    private enum EmptySubscription implements YdbFlow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+            // nothing
+        }
+
+        @Override
+        public void cancel() {
+            // nothing
+        }
+    }
+
+    private class PartsSubscription implements YdbFlow.Subscription, GrpcFlowControl {
+        private final YdbFlow.Subscriber<? super ResultSetReader> subscriber;
+        private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong(0);
+        private final AtomicInteger requestedMessages = new AtomicInteger(0);
+        private final AtomicInteger wip = new AtomicInteger(0);
+
+        private volatile IntConsumer grpcRequest = null;
+        private volatile QueryStream stream = null;
+        private volatile Throwable error = null;
+        private volatile boolean isCancelled = false;
+        private volatile boolean isStreamCompleted = false;
+
+        // accessed only by the drain loop
+        private boolean isTerminated = false;
+
+        PartsSubscription(YdbFlow.Subscriber<? super ResultSetReader> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            createStream(this).whenComplete((result, th) -> {
+                if (th != null) {
+                    onStreamClose(null, th);
+                    return;
+                }
+                if (!result.isSuccess()) {
+                    onStreamClose(result.getStatus(), null);
+                    return;
+                }
+
+                QueryStream created = result.getValue();
+                stream = created;
+                created.execute(new QueryStream.PartsHandler() {
+                    @Override
+                    public void onIssues(Issue[] issues) {
+                        // issues of the failed query are reported by its status
+                    }
+
+                    @Override
+                    public void onNextPart(QueryResultPart part) {
+                        if (!isCancelled) {
+                            queue.offer(part.getResultSetReader());
+                            drainAsync();
+                        }
+                    }
+                }).whenComplete((res, ex) -> {
+                    Status status = null;
+                    if (res != null) {
+                        status = res.getStatus();
+                        if (res.isSuccess() && res.getValue().hasStats()) {
+                            onQueryStats(res.getValue().getStats());
+                        }
+                    }
+                    onStreamClose(status, ex);
+                });
+
+                if (isCancelled) {
+                    created.cancel();
+                }
+            });
+        }
+
+        private void onStreamClose(Status status, Throwable th) {
+            try {
+                onClose(status, th);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Query publisher onClose problem", ex);
+            }
+
+            if (th != null) {
+                fail(th);
+            } else if (status != null && !status.isSuccess()) {
+                fail(ExceptionFactory.createException("Cannot execute '" + msg + "' with " + status,
+                        new UnexpectedResultException("Unexpected status", status)));
+            }
+
+            isStreamCompleted = true;
+            drainAsync();
+        }
+
+        private void fail(Throwable th) {
+            if (error == null) {
+                error = th;
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Subscription request must be positive, but got " + n));
+                cancelStream();
+                isStreamCompleted = true;
+                drain();
+                return;
+            }
+
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            cancelStream();
+            drain();
+        }
+
+        private void cancelStream() {
+            QueryStream current = stream;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public Call newCall(IntConsumer req) {
+            grpcRequest = req;
+            return new Call() {
+                @Override
+                public void onStart() {
+                    requestMessages();
+                }
+
+                @Override
+                public void onMessageRead() {
+                    requestedMessages.decrementAndGet();
+                    requestMessages();
+                }
+            };
+        }
+
+        /**
+         * Keeps count of the requested grpc messages equal to the unfulfilled demand of the subscriber. Messages
+         * without result set parts are requested again, the unexpected parts are kept in the queue
+         */
+        private void requestMessages() {
+            IntConsumer req = grpcRequest;
+            if (req == null || isCancelled || isStreamCompleted) {
+                return;
+            }
+
+            while (true) {
+                long wanted = Math.min(demand.get() - queue.size(), Integer.MAX_VALUE);
+                int requested = requestedMessages.get();
+                if (wanted <= requested) {
+                    return;
+                }
+                int next = (int) (wanted - requested);
+                if (requestedMessages.compareAndSet(requested, requested + next)) {
+                    req.accept(next);
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        /**
+         * Drain is called by the stream in the gRPC thread, so the loop is moved to the executor
+         */
+        private void drainAsync() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drainLoop);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            while (true) {
+                while (!isTerminated) {
+                    if (isCancelled) {
+                        queue.clear();
+                        isTerminated = true;
+                        break;
+                    }
+
+                    boolean completed = isStreamCompleted;
+                    ResultSetReader next = demand.get() > 0 ? queue.poll() : null;
+                    if (next != null) {
+                        if (demand.get() != Long.MAX_VALUE) {
+                            demand.decrementAndGet();
+                        }
+                        subscriber.onNext(next);
+                        continue;
+                    }
+
+                    Throwable th = error;
+                    if (completed && (th != null || queue.isEmpty())) {
+                        // errors are delivered without waiting of the demand
+                        queue.clear();
+                        isTerminated = true;
+                        if (th != null) {
+                            subscriber.onError(th);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    }
+                    break;
+                }
+
+                if (!isTerminated) {
+                    requestMessages();
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.logging.Level;
@@ -37,10 +38,12 @@ import tech.ydb.table.result.ResultSetReader;
  */
 public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlowControl {
     private static final Logger LOGGER = Logger.getLogger(YdbQueryResultReader.class.getName());
+    private static final long CLOSE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
     private final YdbTypes types;
     private final YdbStatement statement;
     private final int fetchSize;
+    private final ColumnarDecoder decoder;
 
     private final LazyRs[] rs;
     private final ReentrantLock lock = new ReentrantLock();
@@ -53,21 +56,64 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     private volatile boolean isStreamCompleted = false;
 
     public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query) {
+        this(types, statement, query, false);
+    }
+
+    /**
+     * @param types types of connection
+     * @param statement owner statement
+     * @param query executed query
+     * @param parallelDecoding if true and the statement has no fetch size, every part of the result is decoded into
+     * columnar arrays on the common ForkJoinPool as soon as it is received and the result sets are kept in memory
+     */
+    public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query, boolean parallelDecoding) {
         super(query, query.getStatements().size());
         this.types = types;
         this.statement = statement;
         this.fetchSize = statement.getFetchSize();
+        this.decoder = parallelDecoding && fetchSize <= 0 ? new ColumnarDecoder(types) : null;
         this.rs = new LazyRs[query.getStatements().size()];
         for (int idx = 0; idx < rs.length; idx += 1) {
-            rs[idx] = new LazyRs();
+            rs[idx] = new LazyRs(idx);
         }
     }
 
-    private void waitForUpdates() throws SQLException {
+    /**
+     * Waits until the condition becomes true. The condition is checked under the lock, and every producer changes
+     * the state before signalling under the same lock, so the wakeup cannot be lost and no polling is needed
+     */
+    private void waitFor(BooleanSupplier condition) throws SQLException {
         lock.lock();
         try {
-            isReady.await(100, TimeUnit.MILLISECONDS);
+            while (!condition.getAsBoolean()) {
+                isReady.await();
+            }
         } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the condition becomes true or the timeout expires
+     *
+     * @return true if the condition is true
+     */
+    private boolean waitFor(BooleanSupplier condition, long timeoutNanos) throws SQLException {
+        lock.lock();
+        try {
+            long nanos = timeoutNanos;
+            while (!condition.getAsBoolean()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = isReady.awaitNanos(nanos);
+            }
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
             throw new SQLException(ex);
         } finally {
             lock.unlock();
@@ -87,15 +133,13 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     public void close() throws SQLException {
         super.close();
 
-        if (!isStreamCompleted) {
-            waitForUpdates();
-            if (!isStreamCompleted && canceller != null) {
+        if (!isStreamCompleted && canceller != null) {
+            // stream suspended by flow control cannot be completed by server, otherwise let it finish itself
+            boolean isSuspended = callFlow != null && callFlow.isSuspended();
+            if (isSuspended || !waitFor(() -> isStreamCompleted, CLOSE_TIMEOUT_NANOS)) {
                 canceller.run();
-
                 // wait of completing
-                while (!isStreamCompleted) {
-                    waitForUpdates();
-                }
+                waitFor(() -> isStreamCompleted);
             }
         }
     }
@@ -115,7 +159,11 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
         LOGGER.log(Level.FINEST, "Loaded {0} rows", count);
         callFlow.loadRows(count);
-        rs[index].queue.offer(rsr);
+        if (decoder != null) {
+            decoder.onPart(index, rsr);
+        } else {
+            rs[index].offer(rsr);
+        }
         releaseWaiters();
 
         return fetchSize > 0 && callFlow.loaded.get() >= fetchSize;
@@ -143,7 +191,9 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         }
 
         YdbResultSet ready = rs[index].getReady();
-        while (ready == null && !isStreamCompleted) {
+        if (ready == null && !isStreamCompleted) {
+            // result set is completed without any parts, the result is known only after the end of stream
+            waitFor(() -> isStreamCompleted);
             ready = rs[index].getReady();
         }
 
@@ -247,6 +297,10 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             }
         }
 
+        public boolean isSuspended() {
+            return reqSize.get() > 0;
+        }
+
         public void loadRows(int rows) {
             loaded.addAndGet(rows);
         }
@@ -259,10 +313,23 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     }
 
     private class LazyRs {
+        private final int index;
         private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
         private YdbResultSet rs = null;
-        private boolean isClosed = false;
-        private boolean isCompleted = false;
+        private volatile boolean isClosed = false;
+        private volatile boolean isCompleted = false;
+
+        LazyRs(int index) {
+            this.index = index;
+        }
+
+        private boolean hasUpdates() {
+            return isCompleted || !queue.isEmpty();
+        }
+
+        void offer(ResultSetReader rsr) {
+            queue.offer(rsr);
+        }
 
         void close() throws SQLException {
             if (rs != null) {
@@ -277,10 +344,16 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
                 return rs;
             }
 
-            while (!isCompleted && queue.isEmpty()) {
-                waitForUpdates();
+            if (decoder != null) {
+                // parts are owned by their decoding tasks, so the result set is always kept in memory
+                waitFor(() -> isCompleted);
+                YdbResultSetMemory decoded = decoder.build(statement, index);
+                rs = decoded != null ? decoded : new YdbResultSetMemory(types, statement, new ResultSetReader[0]);
+                return rs;
             }
 
+            waitFor(this::hasUpdates);
+
             if (isCompleted && fetchSize <= 0) { // can use in memory result set
                 rs = new YdbResultSetMemory(types, statement, queue.toArray(new ResultSetReader[0]));
                 return rs;
@@ -299,22 +372,23 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             rs = new YdbResultSetForwardOnly(statement, columns) {
                 @Override
                 protected boolean hasNext() throws SQLException {
-                    while (!isCompleted && queue.isEmpty()) {
-                        waitForUpdates();
+                    while (true) {
+                        waitFor(LazyRs.this::hasUpdates);
 
                         ResultSetReader next = queue.peek();
-                        if (next != null && next.getRowCount() == 0) {
-                            queue.remove();
+                        if (next == null || next.getRowCount() > 0) {
+                            return next != null;
                         }
+                        queue.remove(); // skip empty parts
                     }
-
-                    return !queue.isEmpty();
                 }
 
                 @Override
                 protected ResultSetReader readNext() throws SQLException {
                     ResultSetReader next  = queue.poll();
-                    LOGGER.log(Level.FINEST, "Processed {0} rows", next.getRowCount());
+                    if (LOGGER.isLoggable(Level.FINEST)) {
+                        LOGGER.log(Level.FINEST, "Processed {0} rows", next.getRowCount());
+                    }
                     callFlow.processRows(next.getRowCount());
                     return next;
                 }
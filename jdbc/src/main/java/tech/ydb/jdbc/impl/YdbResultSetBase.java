@@ -79,11 +79,16 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         return columns.length;
     }
 
+    ColumnInfo[] getColumns() {
+        return columns;
+    }
+
     private int getColumnIndex(String name) throws SQLException {
-        if (!columnNames.containsKey(name)) {
+        Integer index = columnNames.get(name);
+        if (index == null) {
             throw new SQLException(YdbConst.COLUMN_NOT_FOUND + name);
         }
-        return columnNames.get(name);
+        return index;
     }
 
     private ValueReader readValue(int columnIndex) throws SQLException {
@@ -97,6 +102,10 @@ public abstract class YdbResultSetBase implements YdbResultSet {
         return v;
     }
 
+    protected void setWasNull(boolean wasNull) {
+        this.wasNull = wasNull;
+    }
+
     @Override
     public boolean wasNull() {
         return wasNull;
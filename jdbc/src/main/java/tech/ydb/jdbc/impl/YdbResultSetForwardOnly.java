@@ -9,12 +9,18 @@ import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.common.ColumnInfo;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
 
 /**
  *
  * @author Aleksandr Gorshenin
  */
 public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
+    // primitive types of columns, the getters of the same Java type read such columns directly from the row
+    private final PrimitiveType[] primitives;
+    private final boolean[] optionals;
+
     private ResultSetReader current = null;
     private boolean isClosed = false;
 
@@ -23,6 +29,15 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
 
     public YdbResultSetForwardOnly(YdbStatement statement, ColumnInfo[] columns) {
         super(statement, columns);
+
+        this.primitives = new PrimitiveType[columns.length];
+        this.optionals = new boolean[columns.length];
+        for (int idx = 0; idx < columns.length; idx += 1) {
+            if (columns[idx] != null && columns[idx].getYdbType().getKind() == Type.Kind.PRIMITIVE) {
+                primitives[idx] = (PrimitiveType) columns[idx].getYdbType();
+                optionals[idx] = columns[idx].isOptional();
+            }
+        }
     }
 
     protected abstract boolean hasNext() throws SQLException;
@@ -46,6 +61,68 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
         return current.getColumn(columnIndex);
     }
 
+    /**
+     * Reads the column of the current row without the mapping getters if the column has the given type
+     *
+     * @param columnIndex one based column index
+     * @param type expected type of column
+     * @return reader of the column or {@code null} if the column has another type
+     */
+    private ValueReader readPrimitive(int columnIndex, PrimitiveType type) throws SQLException {
+        if (columnIndex <= 0 || columnIndex > primitives.length || primitives[columnIndex - 1] != type) {
+            return null;
+        }
+
+        ValueReader value = getValue(columnIndex - 1);
+        setWasNull(optionals[columnIndex - 1] && !value.isOptionalItemPresent());
+        return value;
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        ValueReader value = readPrimitive(columnIndex, PrimitiveType.Text);
+        if (value == null) {
+            return super.getString(columnIndex);
+        }
+        return wasNull() ? null : value.getText();
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        ValueReader value = readPrimitive(columnIndex, PrimitiveType.Bool);
+        if (value == null) {
+            return super.getBoolean(columnIndex);
+        }
+        return !wasNull() && value.getBool();
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        ValueReader value = readPrimitive(columnIndex, PrimitiveType.Int32);
+        if (value == null) {
+            return super.getInt(columnIndex);
+        }
+        return wasNull() ? 0 : value.getInt32();
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        ValueReader value = readPrimitive(columnIndex, PrimitiveType.Int64);
+        if (value == null) {
+            return super.getLong(columnIndex);
+        }
+        return wasNull() ? 0 : value.getInt64();
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        ValueReader value = readPrimitive(columnIndex, PrimitiveType.Double);
+        if (value == null) {
+            return super.getDouble(columnIndex);
+        }
+        return wasNull() ? 0 : value.getDouble();
+    }
+
     @Override
     public boolean next() throws SQLException {
         if (isClosed) {
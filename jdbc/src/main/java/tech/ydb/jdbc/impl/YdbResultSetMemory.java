@@ -2,7 +2,11 @@ package tech.ydb.jdbc.impl;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbStatement;
@@ -12,8 +16,10 @@ import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.result.ValueReader;
 
 public class YdbResultSetMemory extends YdbResultSetBase {
+    // the reader of a part is null if the part is released after complete columnar decoding
     private final ResultSetReader[] rs;
     private final int totalCount;
+    private final ColumnarPart[] columnarParts;
 
     private int fetchDirection;
     private int globalRowIndex = 0; // before start
@@ -24,18 +30,164 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     private boolean isClosed = false;
 
     public YdbResultSetMemory(YdbTypes types, YdbStatement statement, ResultSetReader... rs) {
-        super(statement, ColumnInfo.fromResultSetReader(types, Objects.requireNonNull(rs[0])));
+        this(types, statement, false, rs);
+    }
+
+    public YdbResultSetMemory(YdbTypes types, YdbStatement statement, boolean columnar, ResultSetReader... rs) {
+        this(statement, ColumnInfo.fromResultSetReader(types, Objects.requireNonNull(rs[0])), rs,
+                columnar ? new ColumnarPart[rs.length] : null);
+    }
+
+    YdbResultSetMemory(YdbStatement statement, ColumnInfo[] columns, ResultSetReader[] rs, ColumnarPart[] parts) {
+        super(statement, columns);
         this.fetchDirection = statement.getFetchDirection();
         this.rs = rs;
+        this.columnarParts = parts;
         int total = 0;
         for (int idx = 0; idx < rs.length; idx += 1) {
-            total += rs[idx].getRowCount();
+            total += rowCount(idx);
         }
         this.totalCount = total;
     }
 
-    public ResultSetReader[] getResultSets() {
-        return rs;
+    private int rowCount(int partIndex) {
+        ResultSetReader part = rs[partIndex];
+        return part != null ? part.getRowCount() : columnarParts[partIndex].getRowCount();
+    }
+
+    /**
+     * Creates columnar result sets from the results which are received as one part per result set, every result
+     * set is decoded by its own task of the common ForkJoinPool. Results received by several parts must be decoded
+     * by {@link ColumnarDecoder} to get a task per part
+     *
+     * @param types types of connection
+     * @param statement owner statement
+     * @param sets readers of result sets
+     * @return array of result sets with decoded parts
+     */
+    public static YdbResultSetMemory[] decodeResultSets(YdbTypes types, YdbStatement statement,
+            ResultSetReader[] sets) {
+        ColumnInfo[][] columns = new ColumnInfo[sets.length][];
+        List<CompletableFuture<ColumnarPart>> futures = new ArrayList<>(sets.length);
+        for (int idx = 0; idx < sets.length; idx += 1) {
+            columns[idx] = ColumnInfo.fromResultSetReader(types, sets[idx]);
+            futures.add(ColumnarPart.decodeAsync(columns[idx], sets[idx]));
+        }
+
+        YdbResultSetMemory[] result = new YdbResultSetMemory[sets.length];
+        for (int idx = 0; idx < sets.length; idx += 1) {
+            result[idx] = ofDecodedParts(statement, columns[idx], new ResultSetReader[] { sets[idx] },
+                    futures.subList(idx, idx + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Creates result set from the parts which are decoded by the given futures. The parts decoded completely are
+     * released, only their columnar copies are kept
+     */
+    static YdbResultSetMemory ofDecodedParts(YdbStatement statement, ColumnInfo[] columns, ResultSetReader[] rs,
+            List<CompletableFuture<ColumnarPart>> futures) {
+        ColumnarPart[] parts = new ColumnarPart[futures.size()];
+        for (int idx = 0; idx < parts.length; idx += 1) {
+            // a part failed to decode is left empty, it will be decoded again on the first read and the error
+            // will be thrown to the reader of result set
+            parts[idx] = futures.get(idx).exceptionally(th -> null).join();
+            if (parts[idx] != null && parts[idx].isComplete()) {
+                rs[idx] = null;
+            }
+        }
+        return new YdbResultSetMemory(statement, columns, rs, parts);
+    }
+
+    /**
+     * Joins result sets of the same expression, for example results of several executions of the batch
+     *
+     * @param statement owner statement
+     * @param sets result sets with the same columns
+     * @return joined result set
+     */
+    public static YdbResultSetMemory join(YdbStatement statement, List<YdbResultSetMemory> sets) {
+        YdbResultSetMemory first = sets.get(0);
+        List<ResultSetReader> readers = new ArrayList<>();
+        List<ColumnarPart> parts = new ArrayList<>();
+        boolean columnar = false;
+        for (YdbResultSetMemory set: sets) {
+            readers.addAll(Arrays.asList(set.rs));
+            for (int idx = 0; idx < set.rs.length; idx += 1) {
+                parts.add(set.columnarParts != null ? set.columnarParts[idx] : null);
+            }
+            columnar = columnar || set.isColumnar();
+        }
+
+        return new YdbResultSetMemory(statement, first.getColumns(), readers.toArray(new ResultSetReader[0]),
+                columnar ? parts.toArray(new ColumnarPart[0]) : null);
+    }
+
+    public boolean isColumnar() {
+        return columnarParts != null;
+    }
+
+    private ColumnarPart.Column findColumnar(int columnIndex) throws SQLException {
+        if (columnarParts == null || columnIndex <= 0 || columnIndex > getColumnsLength() || !isRowIndexValid()) {
+            return null;
+        }
+
+        ColumnarPart part = columnarParts[rsIndex];
+        if (part == null) {
+            ColumnInfo[] columns = new ColumnInfo[getColumnsLength()];
+            for (int idx = 0; idx < columns.length; idx += 1) {
+                columns[idx] = getColumnInfo(idx + 1);
+            }
+            part = ColumnarPart.decode(columns, rs[rsIndex]);
+            rs[rsIndex].setRowIndex(rowIndex - 1); // restore position of part reader
+            columnarParts[rsIndex] = part;
+        }
+        return part.getColumn(columnIndex - 1);
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        ColumnarPart.Column column = findColumnar(columnIndex);
+        if (column == null || !column.hasString()) {
+            return super.getString(columnIndex);
+        }
+        boolean isNull = column.isNull(rowIndex - 1);
+        setWasNull(isNull);
+        return isNull ? null : column.getString(rowIndex - 1);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        ColumnarPart.Column column = findColumnar(columnIndex);
+        if (column == null || !column.hasInt()) {
+            return super.getInt(columnIndex);
+        }
+        boolean isNull = column.isNull(rowIndex - 1);
+        setWasNull(isNull);
+        return isNull ? 0 : column.getInt(rowIndex - 1);
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        ColumnarPart.Column column = findColumnar(columnIndex);
+        if (column == null || !column.hasLong()) {
+            return super.getLong(columnIndex);
+        }
+        boolean isNull = column.isNull(rowIndex - 1);
+        setWasNull(isNull);
+        return isNull ? 0 : column.getLong(rowIndex - 1);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        ColumnarPart.Column column = findColumnar(columnIndex);
+        if (column == null || !column.hasDouble()) {
+            return super.getDouble(columnIndex);
+        }
+        boolean isNull = column.isNull(rowIndex - 1);
+        setWasNull(isNull);
+        return isNull ? 0 : column.getDouble(rowIndex - 1);
     }
 
     @Override
@@ -43,6 +195,9 @@ public class YdbResultSetMemory extends YdbResultSetBase {
         if (!isRowIndexValid()) {
             throw new SQLException(YdbConst.INVALID_ROW + globalRowIndex);
         }
+        if (rs[rsIndex] == null) {
+            return columnarParts[rsIndex].readRow(rowIndex - 1).getColumn(columnIndex);
+        }
         return rs[rsIndex].getColumn(columnIndex);
     }
 
@@ -56,8 +211,10 @@ public class YdbResultSetMemory extends YdbResultSetBase {
                 return false;
             }
 
-            if (rowIndex < rs[rsIndex].getRowCount()) {
-                rs[rsIndex].setRowIndex(rowIndex);
+            if (rowIndex < rowCount(rsIndex)) {
+                if (rs[rsIndex] != null) {
+                    rs[rsIndex].setRowIndex(rowIndex);
+                }
                 globalRowIndex++;
                 rowIndex++;
                 return true;
@@ -205,14 +362,16 @@ public class YdbResultSetMemory extends YdbResultSetBase {
         globalRowIndex = index;
         rsIndex = 0;
         rowIndex = index;
-        int currentSize = rs[rsIndex].getRowCount();
+        int currentSize = rowCount(rsIndex);
         while (rowIndex > currentSize) {
             rsIndex++;
             rowIndex -= currentSize;
-            currentSize = rs[rsIndex].getRowCount();
+            currentSize = rowCount(rsIndex);
         }
 
-        rs[rsIndex].setRowIndex(rowIndex - 1);
+        if (rs[rsIndex] != null) {
+            rs[rsIndex].setRowIndex(rowIndex - 1);
+        }
     }
 
     private boolean isRowIndexValid() {
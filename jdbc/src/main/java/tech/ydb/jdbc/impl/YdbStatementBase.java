@@ -7,24 +7,29 @@ import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
 import tech.ydb.core.Issue;
+import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbFlow;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
-import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.context.QueryStat;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
 import tech.ydb.jdbc.context.YdbValidator;
 import tech.ydb.jdbc.exception.YdbRetryableException;
+import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.settings.FakeTxMode;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
@@ -45,6 +50,7 @@ public abstract class YdbStatementBase implements YdbStatement {
     private final FakeTxMode scanQueryTxMode;
     private final FakeTxMode schemeQueryTxMode;
     private final FakeTxMode bulkQueryTxMode;
+    private final int batchParallelism;
 
     private YdbQueryResult state = EMPTY_RESULT;
     private int queryTimeout;
@@ -67,6 +73,7 @@ public abstract class YdbStatementBase implements YdbStatement {
         this.scanQueryTxMode = props.getScanQueryTxMode();
         this.schemeQueryTxMode = props.getSchemeQueryTxMode();
         this.bulkQueryTxMode = props.getBulkQueryTxMode();
+        this.batchParallelism = props.getBatchParallelism();
     }
 
     private void prepareNewExecution() throws SQLException {
@@ -173,7 +180,20 @@ public abstract class YdbStatementBase implements YdbStatement {
 
     protected YdbQueryResult executeBulkUpsert(YdbQuery query, String tablePath, ListValue rows) throws SQLException {
         prepareNewExecution();
+        checkBulkUpsertTx();
+        return connection.getExecutor().executeBulkUpsert(this, query, tablePath, rows);
+    }
+
+    /**
+     * Sends the chunk of rows without waiting of the result. Unlike {@link #executeBulkUpsert } it doesn't reset
+     * the current state of statement, so it can be called while the batch is being filled
+     */
+    protected CompletableFuture<Status> executeBulkUpsertAsync(String tablePath, ListValue rows) throws SQLException {
+        checkBulkUpsertTx();
+        return connection.getExecutor().executeBulkUpsertAsync(this, tablePath, rows);
+    }
 
+    private void checkBulkUpsertTx() throws SQLException {
         if (connection.getExecutor().isInsideTransaction()) {
             switch (bulkQueryTxMode) {
                 case FAKE_TX:
@@ -186,8 +206,6 @@ public abstract class YdbStatementBase implements YdbStatement {
                     throw new SQLException(YdbConst.BULK_QUERY_INSIDE_TRANSACTION);
             }
         }
-
-        return connection.getExecutor().executeBulkUpsert(this, query, tablePath, rows);
     }
 
     protected YdbQueryResult executeExplainQuery(YdbQuery query) throws SQLException {
@@ -229,6 +247,17 @@ public abstract class YdbStatementBase implements YdbStatement {
         }
     }
 
+    /**
+     * Executes the data query and commits the current transaction, the executor may do both by one request
+     */
+    protected YdbQueryResult executeDataQueryAndCommit(YdbQuery query, String yql, Params params) throws SQLException {
+        prepareNewExecution();
+
+        YdbContext ctx = connection.getCtx();
+        ctx.traceQueryByFullScanDetector(query, yql);
+        return connection.getExecutor().executeDataQueryAndCommit(this, query, yql, params);
+    }
+
     protected YdbQueryResult executeBatchQuery(YdbQuery query, Function<Params, String> queryFunc, List<Params> params)
             throws SQLException {
         prepareNewExecution();
@@ -238,41 +267,144 @@ public abstract class YdbStatementBase implements YdbStatement {
         }
 
         YdbExecutor executor = connection.getExecutor();
-        YdbTypes types = connection.getCtx().getTypes();
         List<YdbResultSetMemory[]> batchResults = new ArrayList<>();
-        int count = 0;
 
         boolean autoCommit = executor.isAutoCommit();
-        try {
-            if (autoCommit) {
-                executor.setAutoCommit(false);
-            }
+        if (batchParallelism > 1 && params.size() > 1 && autoCommit && !executor.isInsideTransaction()) {
+            // every batch entry is executed in its own transaction
+            batchResults.addAll(executor.executeInMemoryQueries(this, query, queryFunc, params, batchParallelism));
+        } else if (!autoCommit) {
             for (Params prm: params) {
-                YdbResultSetMemory[] res = executor.executeInMemoryQuery(this, query, queryFunc.apply(prm), prm);
-                count = Math.max(count, res.length);
-                batchResults.add(res);
+                batchResults.add(executor.executeInMemoryQuery(this, query, queryFunc.apply(prm), prm));
             }
-            if (autoCommit) {
+        } else {
+            // whole batch is executed in one transaction
+            executor.setAutoCommit(false);
+            try {
+                for (Params prm: params) {
+                    batchResults.add(executor.executeInMemoryQuery(this, query, queryFunc.apply(prm), prm));
+                }
                 executor.commit(connection.getCtx(), validator);
+            } catch (SQLException | RuntimeException ex) {
+                // deferred writes and the opened transaction of the failed batch must not be left to the next query
+                try {
+                    executor.rollback(connection.getCtx(), validator);
+                } catch (SQLException | RuntimeException rollbackEx) {
+                    ex.addSuppressed(rollbackEx);
+                }
+                try {
+                    executor.setAutoCommit(true);
+                } catch (SQLException | RuntimeException restoreEx) {
+                    ex.addSuppressed(restoreEx);
+                }
+                throw ex;
             }
-        } finally {
-            executor.setAutoCommit(autoCommit);
+            executor.setAutoCommit(true);
+        }
+
+        return mergeBatchResults(query, batchResults);
+    }
+
+    private YdbQueryResult mergeBatchResults(YdbQuery query, List<YdbResultSetMemory[]> batchResults) {
+        int count = 0;
+        for (YdbResultSetMemory[] res: batchResults) {
+            count = Math.max(count, res.length);
         }
 
         YdbResultSetMemory[] merged = new YdbResultSetMemory[count];
         for (int idx = 0; idx < count; idx += 1) {
-            List<ResultSetReader> expressionResults = new ArrayList<>();
+            List<YdbResultSetMemory> expressionResults = new ArrayList<>();
             for (YdbResultSetMemory[] res: batchResults) {
                 if (idx < res.length) {
-                    expressionResults.addAll(Arrays.asList(res[idx].getResultSets()));
+                    expressionResults.add(res[idx]);
                 }
             }
-            merged[idx] = new YdbResultSetMemory(types, this, expressionResults.toArray(new ResultSetReader[0]));
+            merged[idx] = YdbResultSetMemory.join(this, expressionResults);
         }
 
         return new YdbQueryResultStatic(query, merged);
     }
 
+    /**
+     * Executes the data query without blocking of the caller thread. Unlike of the synchronous methods the result
+     * doesn't change the state of the statement and must be read from the returned future
+     */
+    protected CompletableFuture<YdbQueryResult> executeDataQueryAsync(YdbQuery query, String yql, Params params) {
+        return executeBatchQueryAsync(query, prm -> yql, Collections.singletonList(params));
+    }
+
+    /**
+     * Executes the batch entries one by one without blocking of the caller thread, every entry is executed in its
+     * own transaction. Only the close of the previous result of the connection is done in the caller thread: a not
+     * completed stream holds the session of the connection and must be finished before the next query
+     */
+    protected CompletableFuture<YdbQueryResult> executeBatchQueryAsync(YdbQuery query,
+            Function<Params, String> queryFunc, List<Params> params) {
+        CompletableFuture<List<YdbResultSetMemory[]>> results = CompletableFuture.completedFuture(new ArrayList<>());
+        try {
+            prepareNewExecution();
+
+            YdbExecutor executor = connection.getExecutor();
+            if (query.getType() != QueryType.DATA_QUERY || !executor.isAutoCommit() || executor.isInsideTransaction()) {
+                throw new SQLFeatureNotSupportedException(YdbConst.ASYNC_EXECUTION_UNSUPPORTED);
+            }
+
+            for (Params prm: params) {
+                // query text is built in the caller thread, the prepared query may be changed after the call
+                String yql = queryFunc.apply(prm);
+                results = results.thenCompose(list -> executor.executeInMemoryQueryAsync(this, query, yql, prm)
+                        .thenApply(rs -> {
+                            list.add(rs);
+                            return list;
+                        }));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            return failedFuture(ex);
+        }
+
+        return results.thenApply(list -> mergeBatchResults(query, list));
+    }
+
+    /**
+     * Creates the publisher of the result set parts of the data query. The query is started by the subscription
+     * and is executed in its own transaction
+     */
+    protected YdbFlow.Publisher<ResultSetReader> publishDataQuery(YdbQuery query, String yql, Params params) {
+        try {
+            prepareNewExecution();
+
+            YdbExecutor executor = connection.getExecutor();
+            if (query.getType() != QueryType.DATA_QUERY || !executor.isAutoCommit() || executor.isInsideTransaction()) {
+                throw new SQLFeatureNotSupportedException(YdbConst.ASYNC_EXECUTION_UNSUPPORTED);
+            }
+
+            return executor.publishDataQuery(this, query, yql, params);
+        } catch (SQLException | RuntimeException ex) {
+            return YdbQueryPublisher.failed(ex);
+        }
+    }
+
+    protected static CompletableFuture<YdbQueryResult> expectResultSets(CompletableFuture<YdbQueryResult> future,
+            boolean hasResultSets) {
+        return future.thenApply(result -> {
+            try {
+                if (result.hasResultSets() != hasResultSets) {
+                    String msg = hasResultSets ? YdbConst.QUERY_EXPECT_RESULT_SET : YdbConst.QUERY_EXPECT_UPDATE;
+                    throw new CompletionException(new SQLException(msg));
+                }
+                return result;
+            } catch (SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+    }
+
+    protected static <T> CompletableFuture<T> failedFuture(Throwable th) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(th);
+        return future;
+    }
+
     protected YdbQueryResult executeSchemeQuery(YdbQuery query, String yql, Params params) throws SQLException {
         prepareNewExecution();
 
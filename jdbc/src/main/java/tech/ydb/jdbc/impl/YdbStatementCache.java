@@ -0,0 +1,114 @@
+package tech.ydb.jdbc.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import tech.ydb.jdbc.YdbPrepareMode;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbPreparedQuery;
+import tech.ydb.jdbc.query.YdbQuery;
+
+/**
+ * Per-connection LRU cache of closed prepared statements. The prepared query holds the state of parameters, so it
+ * can be used only by one statement at time: the entry is removed from the cache by {@link #take} and returned back
+ * by {@link #release} when the statement is closed.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class YdbStatementCache {
+    private final int maxQueries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes = 0;
+
+    YdbStatementCache(int maxQueries, int maxSizeMiB) {
+        this.maxQueries = maxQueries;
+        this.maxBytes = Math.max(0, maxSizeMiB) * 1024L * 1024L;
+    }
+
+    static YdbStatementCache create(int maxQueries, int maxSizeMiB) {
+        return maxQueries > 0 && maxSizeMiB > 0 ? new YdbStatementCache(maxQueries, maxSizeMiB) : null;
+    }
+
+    synchronized Entry take(QueryKey queryKey, YdbPrepareMode mode) {
+        Entry entry = entries.remove(new Key(queryKey, mode));
+        if (entry != null) {
+            currentBytes -= entry.size;
+        }
+        return entry;
+    }
+
+    synchronized void release(Entry entry) {
+        if (entry.size > maxBytes) {
+            return;
+        }
+
+        Entry prev = entries.put(entry.key, entry);
+        if (prev != null) {
+            currentBytes -= prev.size;
+        }
+        currentBytes += entry.size;
+
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext() && (entries.size() > maxQueries || currentBytes > maxBytes)) {
+            Entry eldest = it.next();
+            it.remove();
+            currentBytes -= eldest.size;
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    static class Entry {
+        private final Key key;
+        private final YdbQuery query;
+        private final YdbPreparedQuery prepared;
+        private final long size;
+
+        Entry(QueryKey queryKey, YdbPrepareMode mode, YdbQuery query, YdbPreparedQuery prepared) {
+            this.key = new Key(queryKey, mode);
+            this.query = query;
+            this.prepared = prepared;
+            this.size = 2L * (query.getOriginQuery().length() + query.getPreparedYql().length());
+        }
+
+        YdbQuery getQuery() {
+            return query;
+        }
+
+        YdbPreparedQuery getPrepared() {
+            return prepared;
+        }
+    }
+
+    private static class Key {
+        private final QueryKey queryKey;
+        private final YdbPrepareMode mode;
+
+        Key(QueryKey queryKey, YdbPrepareMode mode) {
+            this.queryKey = queryKey;
+            this.mode = mode;
+        }
+
+        @Override
+        public int hashCode() {
+            return queryKey.hashCode() * 31 + mode.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return mode == other.mode && Objects.equals(queryKey, other.queryKey);
+        }
+    }
+}
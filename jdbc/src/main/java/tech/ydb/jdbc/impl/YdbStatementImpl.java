@@ -6,15 +6,19 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbFlow;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
 
 public class YdbStatementImpl extends YdbStatementBase {
     private static final Logger LOGGER = Logger.getLogger(YdbStatementImpl.class.getName());
@@ -104,6 +108,47 @@ public class YdbStatementImpl extends YdbStatementBase {
         return updateState(newState);
     }
 
+    @Override
+    public CompletionStage<YdbQueryResult> executeQueryAsync(String sql) {
+        return expectResultSets(executeAsync(sql), true);
+    }
+
+    @Override
+    public CompletionStage<YdbQueryResult> executeUpdateAsync(String sql) {
+        return expectResultSets(executeAsync(sql), false);
+    }
+
+    @Override
+    public CompletionStage<YdbQueryResult> executeBatchAsync() {
+        if (batch.isEmpty()) {
+            LOGGER.log(Level.FINE, "Batch is empty, nothing to execute");
+            return CompletableFuture.completedFuture(new YdbQueryResultEmpty());
+        }
+
+        String sql = String.join(";\n", batch);
+        batch.clear();
+        return executeAsync(sql);
+    }
+
+    @Override
+    public YdbFlow.Publisher<ResultSetReader> publishQuery(String sql) {
+        try {
+            YdbQuery query = getConnection().getCtx().createYdbQuery(sql);
+            return publishDataQuery(query, query.getPreparedYql(), Params.empty());
+        } catch (SQLException ex) {
+            return YdbQueryPublisher.failed(ex);
+        }
+    }
+
+    private CompletableFuture<YdbQueryResult> executeAsync(String sql) {
+        try {
+            YdbQuery query = getConnection().getCtx().createYdbQuery(sql);
+            return executeDataQueryAsync(query, query.getPreparedYql(), Params.empty());
+        } catch (SQLException ex) {
+            return failedFuture(ex);
+        }
+    }
+
     @Override
     public void addBatch(String sql) throws SQLException {
         cleanState();
@@ -9,15 +9,18 @@ import java.util.Objects;
 public class QueryKey {
     private final String query;
     private final String returning;
+    private final int hash; // keys are used only for cache lookups, so the hash is computed once
 
     public QueryKey(String query) {
         this.query = query;
         this.returning = null;
+        this.hash = Objects.hashCode(query) * 31;
     }
 
     public QueryKey(String query, String[] columnNames) {
         this.query = query;
         this.returning = buildReturning(columnNames);
+        this.hash = Objects.hashCode(query) * 31 + returning.hashCode();
     }
 
     public String getQuery() {
@@ -30,7 +33,7 @@ public class QueryKey {
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, returning);
+        return hash;
     }
 
     @Override
@@ -43,7 +46,10 @@ public class QueryKey {
         }
 
         QueryKey other = (QueryKey) obj;
-        return Objects.equals(this.query, other.query) && Objects.equals(this.returning, other.returning);
+        if (hash != other.hash) {
+            return false;
+        }
+        return Objects.equals(query, other.query) && Objects.equals(returning, other.returning);
     }
 
     private static String buildReturning(String[] columnNames) {
@@ -39,6 +39,10 @@ public class YdbQuery {
         this.isWriting = (type == QueryType.DATA_QUERY) && hasDML;
     }
 
+    public QueryKey getKey() {
+        return key;
+    }
+
     public QueryType getType() {
         return type;
     }
@@ -506,6 +506,51 @@ public class YdbQueryParser {
         return start;
     }
 
+    /**
+     * Adds prefix to names of all parameters and named expressions of the query. Literals, quoted identifiers and
+     * comments are kept as is.
+     *
+     * @param yql text of query
+     * @param prefix prefix which is inserted after every {@code $}
+     * @return text of query with renamed parameters
+     */
+    public static String prefixVariables(String yql, String prefix) {
+        char[] chars = yql.toCharArray();
+        StringBuilder renamed = new StringBuilder(chars.length + 64);
+
+        int fragmentStart = 0;
+        for (int i = 0; i < chars.length; ++i) {
+            switch (chars[i]) {
+                case '\'':
+                    i = parseSingleQuotes(chars, i);
+                    break;
+                case '"':
+                    i = parseDoubleQuotes(chars, i);
+                    break;
+                case '`':
+                    i = parseBacktickQuotes(chars, i);
+                    break;
+                case '-':
+                    i = parseLineComment(chars, i);
+                    break;
+                case '/':
+                    i = parseBlockComment(chars, i);
+                    break;
+                case '$':
+                    if (i + 1 < chars.length && Character.isJavaIdentifierPart(chars[i + 1])) {
+                        renamed.append(chars, fragmentStart, i + 1 - fragmentStart).append(prefix);
+                        fragmentStart = i + 1;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        renamed.append(chars, fragmentStart, chars.length - fragmentStart);
+        return renamed.toString();
+    }
+
     private static int parseSingleQuotes(final char[] query, int offset) {
         // treat backslashes as escape characters
         while (++offset < query.length) {
@@ -4,6 +4,7 @@ package tech.ydb.jdbc.query.params;
 import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,11 +39,26 @@ public class BatchedQuery implements YdbPreparedQuery {
     private final String singleQuery;
     private final String batchQuery;
     private final String batchParamName;
-    private final Map<String, ParamDescription> paramsByName;
+    private final Map<String, Integer> paramsByName;
     private final ParamDescription[] params;
 
-    private final List<StructValue> batchList = new ArrayList<>();
-    private final Map<String, Value<?>> currentValues = new HashMap<>();
+    // rows are kept as arrays of values in order of parameters, structs are created only on execution. Values are
+    // already created by setters and the SDK builds the request only from values, so primitive arrays per column
+    // would unbox them on addBatch and box them again on execution without saving any allocation
+    private final List<Value<?>[]> batchList = new ArrayList<>();
+    private Value<?>[] currentValues;
+
+    // positions of parameters in the last created struct, its type is reused while the types of values are the same
+    private final int[] rowPositions;
+    private StructType rowType = null;
+
+    // batch is split into chunks by estimated size or count of rows, every chunk is sent by its own request
+    private final List<Integer> chunkStarts = new ArrayList<>();
+    private boolean countBatchBytes = false;
+    private long splitBytes = 0;
+    private int splitRows = 0;
+    private long batchBytes = 0;
+    private long chunkBytes = 0;
 
     protected BatchedQuery(String single, String batched, String prm, ParamDescription[] params) throws SQLException {
         this.singleQuery = single;
@@ -50,9 +66,11 @@ public class BatchedQuery implements YdbPreparedQuery {
         this.batchParamName = prm;
         this.paramsByName = new HashMap<>();
         this.params = params;
+        this.currentValues = new Value<?>[params.length];
+        this.rowPositions = new int[params.length];
 
-        for (ParamDescription pd: params) {
-            paramsByName.put(pd.name(), pd);
+        for (int idx = 0; idx < params.length; idx += 1) {
+            paramsByName.put(params[idx].name(), idx);
         }
     }
 
@@ -78,53 +96,179 @@ public class BatchedQuery implements YdbPreparedQuery {
 
     @Override
     public void clearParameters() {
-        currentValues.clear();
+        Arrays.fill(currentValues, null);
+    }
+
+    /**
+     * Sets limits of one chunk of the batch, the limits are applied to the rows added after the call
+     *
+     * @param bytes maximum estimated size of rows in one chunk or {@code 0} for no limit
+     * @param rows maximum count of rows in one chunk or {@code 0} for no limit
+     */
+    public void setSplitLimits(long bytes, int rows) {
+        this.splitBytes = bytes;
+        this.splitRows = rows;
+    }
+
+    /**
+     * Enables estimation of size of batched rows without size limit of chunks
+     *
+     * @param enabled true to estimate size of every added row
+     */
+    public void setCountBatchBytes(boolean enabled) {
+        this.countBatchBytes = enabled;
+    }
+
+    /**
+     * @return estimated serialized size of batched rows, it is counted only if the size limit of chunk is set or
+     * {@link #setCountBatchBytes(boolean) } is enabled
+     */
+    public long getBatchBytes() {
+        return batchBytes;
     }
 
     @Override
     public void addBatch() throws SQLException {
-        batchList.add(StructValue.of(validateValues()));
-        currentValues.clear();
+        Value<?>[] row = validateValues();
+        if (countBatchBytes || splitBytes > 0 || splitRows > 0) {
+            long rowBytes = countBatchBytes || splitBytes > 0 ? estimateBytes(row) : 0;
+            int chunkStart = chunkStarts.isEmpty() ? 0 : chunkStarts.get(chunkStarts.size() - 1);
+            int chunkRows = batchList.size() - chunkStart;
+            if (chunkRows > 0 && ((splitBytes > 0 && chunkBytes + rowBytes > splitBytes)
+                    || (splitRows > 0 && chunkRows >= splitRows))) {
+                chunkStarts.add(batchList.size());
+                chunkBytes = 0;
+            }
+            chunkBytes += rowBytes;
+            batchBytes += rowBytes;
+        }
+
+        // the array of values is moved to the batch as is, the next row is collected in a new one
+        batchList.add(row);
+        currentValues = new Value<?>[params.length];
     }
 
     @Override
     public void clearBatch() {
         batchList.clear();
+        chunkStarts.clear();
+        batchBytes = 0;
+        chunkBytes = 0;
+    }
+
+    private static long estimateBytes(Value<?>[] row) {
+        long bytes = 0;
+        for (Value<?> value: row) {
+            bytes += YdbTypes.estimateSize(value);
+        }
+        return bytes;
     }
 
-    protected Map<String, Value<?>> validateValues() throws SQLException {
-        for (ParamDescription prm: params) {
-            if (!currentValues.containsKey(prm.name())) {
-                throw new SQLDataException(YdbConst.MISSING_VALUE_FOR_PARAMETER + prm.displayName());
+    /**
+     * @return values of current row in order of parameters
+     * @throws SQLException if some of parameters has no value
+     */
+    protected Value<?>[] validateValues() throws SQLException {
+        for (int idx = 0; idx < params.length; idx += 1) {
+            if (currentValues[idx] == null) {
+                throw new SQLDataException(YdbConst.MISSING_VALUE_FOR_PARAMETER + params[idx].displayName());
             }
         }
         return currentValues;
     }
 
+    protected StructValue toStruct(Value<?>[] row) {
+        if (rowType != null) {
+            Value<?>[] members = new Value<?>[row.length];
+            boolean isSameType = true;
+            for (int idx = 0; idx < row.length && isSameType; idx += 1) {
+                int pos = rowPositions[idx];
+                members[pos] = row[idx];
+                isSameType = rowType.getMemberType(pos).equals(row[idx].getType());
+            }
+            if (isSameType) {
+                return rowType.newValueUnsafe(members);
+            }
+        }
+
+        // the first row or the row with other types of values, for example NULL passed to not optional parameter
+        Map<String, Value<?>> members = new HashMap<>();
+        for (int idx = 0; idx < row.length; idx += 1) {
+            members.put(params[idx].name(), row[idx]);
+        }
+        StructValue struct = StructValue.of(members);
+        rowType = struct.getType();
+        for (int pos = 0; pos < rowType.getMembersCount(); pos += 1) {
+            rowPositions[paramsByName.get(rowType.getMemberName(pos))] = pos;
+        }
+        return struct;
+    }
+
     protected List<StructValue> getBatchedValues() {
-        return batchList;
+        List<StructValue> structs = new ArrayList<>(batchList.size());
+        for (Value<?>[] row: batchList) {
+            structs.add(toStruct(row));
+        }
+        return structs;
     }
 
     @Override
     public Params getCurrentParams() throws SQLException {
-        Map<String, Value<?>> vv = validateValues();
+        Value<?>[] vv = validateValues();
         if (singleQuery == null) {
-            return Params.of(batchParamName, ListValue.of(StructValue.of(vv)));
+            return Params.of(batchParamName, ListValue.of(toStruct(vv)));
+        }
+        Params prms = Params.create(vv.length);
+        for (int idx = 0; idx < params.length; idx += 1) {
+            prms.put(YdbConst.VARIABLE_PARAMETER_PREFIX + params[idx].name(), vv[idx]);
         }
-        Params prms = Params.create(vv.size());
-        vv.forEach((name, value) -> prms.put(YdbConst.VARIABLE_PARAMETER_PREFIX + name, value));
         return prms;
     }
 
+    /**
+     * @return batched rows split into chunks by the limits of {@link #setSplitLimits(long, int) }
+     */
+    protected List<List<StructValue>> getBatchedChunks() {
+        List<List<StructValue>> chunks = new ArrayList<>(chunkStarts.size() + 1);
+        int start = 0;
+        for (int idx = 0; idx <= chunkStarts.size(); idx += 1) {
+            int end = idx < chunkStarts.size() ? chunkStarts.get(idx) : batchList.size();
+            List<StructValue> chunk = new ArrayList<>(end - start);
+            for (Value<?>[] row: batchList.subList(start, end)) {
+                chunk.add(toStruct(row));
+            }
+            chunks.add(chunk);
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return count of rows in every chunk of the batch, in the same order as {@link #getBatchParams() }
+     */
+    public int[] getChunkSizes() {
+        int[] sizes = new int[chunkStarts.size() + 1];
+        int start = 0;
+        for (int idx = 0; idx < sizes.length; idx += 1) {
+            int end = idx < chunkStarts.size() ? chunkStarts.get(idx) : batchList.size();
+            sizes[idx] = end - start;
+            start = end;
+        }
+        return sizes;
+    }
+
     @Override
     public List<Params> getBatchParams() {
         if (batchList.isEmpty()) {
             return Collections.emptyList();
         }
 
-        Value<?>[] batchStructs = batchList.toArray(new Value<?>[0]);
-        ListValue list = ListValue.of(batchStructs);
-        return Collections.singletonList(Params.of(batchParamName, list));
+        List<Params> batch = new ArrayList<>(chunkStarts.size() + 1);
+        for (List<StructValue> chunk: getBatchedChunks()) {
+            ListValue list = ListValue.of(chunk.toArray(new Value<?>[0]));
+            batch.add(Params.of(batchParamName, list));
+        }
+        return batch;
     }
 
     @Override
@@ -133,18 +277,17 @@ public class BatchedQuery implements YdbPreparedQuery {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
         ParamDescription desc = params[index - 1];
-        Value<?> value = ValueFactory.readValue(desc.displayName(), obj, desc.type());
-        currentValues.put(desc.name(), value);
+        currentValues[index - 1] = ValueFactory.readValue(desc.displayName(), obj, desc.type());
     }
 
     @Override
     public void setParam(String name, Object obj, int sqlType) throws SQLException {
-        if (!paramsByName.containsKey(name)) {
+        Integer index = paramsByName.get(name);
+        if (index == null) {
             throw new SQLException(YdbConst.PARAMETER_NOT_FOUND + name);
         }
-        ParamDescription desc = paramsByName.get(name);
-        Value<?> value = ValueFactory.readValue(desc.displayName(), obj, desc.type());
-        currentValues.put(desc.name(), value);
+        ParamDescription desc = params[index];
+        currentValues[index] = ValueFactory.readValue(desc.displayName(), obj, desc.type());
     }
 
     @Override
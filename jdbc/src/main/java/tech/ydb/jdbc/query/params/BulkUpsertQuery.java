@@ -1,6 +1,7 @@
 package tech.ydb.jdbc.query.params;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -36,13 +37,25 @@ public class BulkUpsertQuery extends BatchedQuery {
     }
 
     public ListValue getCurrentBulk() throws SQLException {
-        return bulkType.newValue(Collections.singletonList(StructValue.of(validateValues())));
+        return bulkType.newValue(Collections.singletonList(toStruct(validateValues())));
     }
 
     public ListValue getBatchedBulk() {
         return bulkType.newValue(getBatchedValues());
     }
 
+    /**
+     * @return batched rows split into bulks by the limits of chunks, the bulks aren't changed by following changes
+     * of the batch
+     */
+    public List<ListValue> getBatchedBulks() {
+        List<ListValue> bulks = new ArrayList<>();
+        for (List<StructValue> chunk: getBatchedChunks()) {
+            bulks.add(bulkType.newValue(chunk));
+        }
+        return bulks;
+    }
+
     public static BulkUpsertQuery build(YdbTypes types, String path, List<String> columns, TableDescription description)
             throws SQLException {
         StringBuilder yql = new StringBuilder();
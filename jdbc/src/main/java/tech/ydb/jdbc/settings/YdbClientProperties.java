@@ -32,11 +32,42 @@ public class YdbClientProperties {
             "sessionPoolSizeMax", "Session pool max size (with with sessionPoolSizeMin)"
     );
 
+    static final YdbProperty<Integer> READ_ONLY_SESSION_POOL_SIZE = YdbProperty.integer(
+            "readOnlySessionPoolSize", "Session pool max size for read-only transactions", 50
+    );
+
+    static final YdbProperty<Boolean> SESSION_POOL_ADAPTIVE = YdbProperty.bool(
+            "sessionPoolAdaptive", "Adjust session pool max size by the wait time of sessions "
+                    + "instead of the count of connections", false
+    );
+
+    static final YdbProperty<Duration> SESSION_POOL_ADAPTIVE_TARGET_WAIT = YdbProperty.duration(
+            "sessionPoolAdaptiveTargetWait", "Target average wait of session for adaptive session pool", "0.01s"
+    );
+
+    static final YdbProperty<Integer> SESSION_POOL_ADAPTIVE_LIMIT = YdbProperty.integer(
+            "sessionPoolAdaptiveLimit", "Upper limit of session pool max size for adaptive session pool", 1000
+    );
+
+    static final YdbProperty<Boolean> SESSION_POOL_WARMUP = YdbProperty.bool(
+            "sessionPoolWarmup", "Create sessionPoolSizeMin sessions in background on creation of context", false
+    );
+
+    static final YdbProperty<Boolean> SESSION_POOL_WARMUP_WAIT = YdbProperty.bool(
+            "sessionPoolWarmupWait", "Block creation of context until warmup of session pool is finished", false
+    );
+
     private final YdbValue<Boolean> keepQueryText;
     private final YdbValue<Duration> sessionKeepAliveTime;
     private final YdbValue<Duration> sessionMaxIdleTime;
     private final YdbValue<Integer> sessionPoolMinSize;
     private final YdbValue<Integer> sessionPoolMaxSize;
+    private final YdbValue<Integer> readOnlySessionPoolSize;
+    private final YdbValue<Boolean> sessionPoolAdaptive;
+    private final YdbValue<Duration> sessionPoolAdaptiveTargetWait;
+    private final YdbValue<Integer> sessionPoolAdaptiveLimit;
+    private final YdbValue<Boolean> sessionPoolWarmup;
+    private final YdbValue<Boolean> sessionPoolWarmupWait;
 
     public YdbClientProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -46,6 +77,43 @@ public class YdbClientProperties {
         this.sessionMaxIdleTime = SESSION_MAX_IDLE_TIME.readValue(props);
         this.sessionPoolMinSize = SESSION_POOL_SIZE_MIN.readValue(props);
         this.sessionPoolMaxSize = SESSION_POOL_SIZE_MAX.readValue(props);
+        this.readOnlySessionPoolSize = READ_ONLY_SESSION_POOL_SIZE.readValue(props);
+        this.sessionPoolAdaptive = SESSION_POOL_ADAPTIVE.readValue(props);
+        this.sessionPoolAdaptiveTargetWait = SESSION_POOL_ADAPTIVE_TARGET_WAIT.readValue(props);
+        this.sessionPoolAdaptiveLimit = SESSION_POOL_ADAPTIVE_LIMIT.readValue(props);
+        this.sessionPoolWarmup = SESSION_POOL_WARMUP.readValue(props);
+        this.sessionPoolWarmupWait = SESSION_POOL_WARMUP_WAIT.readValue(props);
+    }
+
+    public boolean isSessionPoolAdaptive() {
+        return sessionPoolAdaptive.getValue();
+    }
+
+    public Duration getSessionPoolAdaptiveTargetWait() {
+        return sessionPoolAdaptiveTargetWait.getValue();
+    }
+
+    public int getSessionPoolAdaptiveLimit() {
+        return sessionPoolAdaptiveLimit.getValue();
+    }
+
+    public boolean isSessionPoolWarmup() {
+        return sessionPoolWarmup.getValue();
+    }
+
+    public boolean isSessionPoolWarmupWait() {
+        return sessionPoolWarmupWait.getValue();
+    }
+
+    public int getSessionPoolMinSize() {
+        if (!sessionPoolMinSize.hasValue()) {
+            return SESSION_POOL_DEFAULT_MIN_SIZE;
+        }
+        return Math.max(0, sessionPoolMinSize.getValue());
+    }
+
+    public int getReadOnlySessionPoolSize() {
+        return Math.max(1, readOnlySessionPoolSize.getValue());
     }
 
     public boolean applyToTableClient(TableClient.Builder table, QueryClient.Builder query) {
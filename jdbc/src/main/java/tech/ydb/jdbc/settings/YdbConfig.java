@@ -35,6 +35,9 @@ public class YdbConfig {
             "Specifies the maximum number of entries in per-transport cache of prepared statements. A value of "
                     + "{@code 0} disables the cache.", 256
     );
+    static final YdbProperty<String> PERSISTENT_CACHE_FILE = YdbProperty.string("persistentCacheFile",
+            "Path to the file to keep the types of prepared statements and table descriptions between restarts of "
+                    + "application. The file is used only if the cache of prepared statements is enabled");
     static final YdbProperty<Boolean> USE_QUERY_SERVICE = YdbProperty.bool("useQueryService",
             "Use QueryService instead of TableService", true
     );
@@ -45,9 +48,33 @@ public class YdbConfig {
     static final YdbProperty<Boolean> USE_DISCOVERY = YdbProperty.bool("useDiscovery",
             "Use discovery (client balancing) for YDB cluster connection", true);
 
+    static final YdbProperty<Integer> GRPC_CHANNELS_COUNT = YdbProperty.integer("grpcChannelsCount",
+            "Count of gRPC channels to the endpoint, used only if discovery is disabled", 1);
+
+    static final YdbProperty<Boolean> USE_VIRTUAL_THREADS = YdbProperty.bool("useVirtualThreads",
+            "Use virtual threads (requires JDK 21+) for the internal scheduler of transport and for the callbacks "
+                    + "of asynchronous queries and query publishers. Without this option the callbacks are executed "
+                    + "by the common ForkJoinPool", false);
+
+    static final YdbProperty<Boolean> READ_ONLY_ROUTING = YdbProperty.bool("readOnlyRouting",
+            "Use separate transport and session pool for read-only transactions", false);
+
+    static final YdbProperty<String> READ_ONLY_ENDPOINT = YdbProperty.string("readOnlyEndpoint",
+            "Connection string of YDB cluster for read-only transactions (the main connection string by default)");
+
+    static final YdbProperty<String> READ_ONLY_LOCAL_DATACENTER = YdbProperty.string("readOnlyLocalDatacenter",
+            "Local Datacenter for read-only transactions (the localDatacenter option by default)");
+
     static final YdbProperty<Boolean> FULLSCAN_DETECTOR_ENABLED = YdbProperty.bool(
             "jdbcFullScanDetector", "Enable analizator for collecting query stats", false
     );
+    static final YdbProperty<Integer> FULLSCAN_DETECTOR_SAMPLING = YdbProperty.integer(
+            "jdbcFullScanDetectorSampling", "Percentage of distinct queries checked by full scan detector", 100
+    );
+    static final YdbProperty<Integer> FULLSCAN_DETECTOR_MAX_IN_FLIGHT = YdbProperty.integer(
+            "jdbcFullScanDetectorMaxInFlight", "Maximum count of concurrent explain requests of full scan detector, "
+                    + "queries above the limit are checked on the next execution", 4
+    );
     static final YdbProperty<Boolean> TRANSACTION_TRACER = YdbProperty.bool(
             "enableTxTracer", "Enable collecting of transaction execution traces", false
     );
@@ -65,12 +92,21 @@ public class YdbConfig {
     private final Properties properties;
     private final boolean isCacheConnectionsInDriver;
     private final int preparedStatementsCacheSize;
+    private final String persistentCacheFile;
 
     private final boolean useQueryService;
     private final boolean useDiscovery;
+    private final int grpcChannelsCount;
+    private final boolean useVirtualThreads;
     private final YdbValue<String> usePrefixPath;
 
+    private final boolean readOnlyRouting;
+    private final YdbValue<String> readOnlyEndpoint;
+    private final YdbValue<String> readOnlyLocalDatacenter;
+
     private final boolean fullScanDetectorEnabled;
+    private final int fullScanDetectorSampling;
+    private final int fullScanDetectorMaxInFlight;
     private final boolean txTracerEnabled;
     private final int transportIndex;
 
@@ -85,12 +121,22 @@ public class YdbConfig {
         this.properties = props;
         this.isCacheConnectionsInDriver = CACHE_CONNECTIONS_IN_DRIVER.readValue(props).getValue();
         this.preparedStatementsCacheSize = Math.max(0, PREPARED_STATEMENT_CACHE_SIZE.readValue(props).getValue());
+        this.persistentCacheFile = PERSISTENT_CACHE_FILE.readValue(props).getValue();
 
         this.useQueryService = USE_QUERY_SERVICE.readValue(props).getValue();
         this.useDiscovery = USE_DISCOVERY.readValue(props).getValue();
+        this.grpcChannelsCount = Math.max(1, GRPC_CHANNELS_COUNT.readValue(props).getValue());
+        this.useVirtualThreads = USE_VIRTUAL_THREADS.readValue(props).getValue();
         this.usePrefixPath = USE_PREFIX_PATH.readValue(props);
 
+        this.readOnlyRouting = READ_ONLY_ROUTING.readValue(props).getValue();
+        this.readOnlyEndpoint = READ_ONLY_ENDPOINT.readValue(props);
+        this.readOnlyLocalDatacenter = READ_ONLY_LOCAL_DATACENTER.readValue(props);
+
         this.fullScanDetectorEnabled = FULLSCAN_DETECTOR_ENABLED.readValue(props).getValue();
+        this.fullScanDetectorSampling = Math.min(100, Math.max(0,
+                FULLSCAN_DETECTOR_SAMPLING.readValue(props).getValue()));
+        this.fullScanDetectorMaxInFlight = Math.max(1, FULLSCAN_DETECTOR_MAX_IN_FLIGHT.readValue(props).getValue());
         this.txTracerEnabled = TRANSACTION_TRACER.readValue(props).getValue();
 
         int transportsCount = CACHED_TRANSPORT_COUNT.readValue(props).getValue();
@@ -125,6 +171,10 @@ public class YdbConfig {
         return this.preparedStatementsCacheSize;
     }
 
+    public String getPersistentCacheFile() {
+        return this.persistentCacheFile;
+    }
+
     public boolean isUseQueryService() {
         return this.useQueryService;
     }
@@ -133,6 +183,14 @@ public class YdbConfig {
         return this.useDiscovery;
     }
 
+    public int getGrpcChannelsCount() {
+        return this.grpcChannelsCount;
+    }
+
+    public boolean isUseVirtualThreads() {
+        return this.useVirtualThreads;
+    }
+
     public boolean hasPrefixPath() {
         return usePrefixPath.hasValue();
     }
@@ -141,10 +199,31 @@ public class YdbConfig {
         return usePrefixPath.getValue();
     }
 
+    public boolean isReadOnlyRouting() {
+        return readOnlyRouting;
+    }
+
+    public String getReadOnlyConnectionString() {
+        String endpoint = readOnlyEndpoint.getValue();
+        return endpoint != null && !endpoint.isEmpty() ? endpoint : connectionString;
+    }
+
+    public String getReadOnlyLocalDatacenter() {
+        return readOnlyLocalDatacenter.getValue();
+    }
+
     public boolean isFullScanDetectorEnabled() {
         return fullScanDetectorEnabled;
     }
 
+    public int getFullScanDetectorSampling() {
+        return fullScanDetectorSampling;
+    }
+
+    public int getFullScanDetectorMaxInFlight() {
+        return fullScanDetectorMaxInFlight;
+    }
+
     public boolean isTxTracedEnabled() {
         return txTracerEnabled;
     }
@@ -196,9 +275,15 @@ public class YdbConfig {
         return new DriverPropertyInfo[] {
             YdbConfig.CACHE_CONNECTIONS_IN_DRIVER.toInfo(properties),
             YdbConfig.PREPARED_STATEMENT_CACHE_SIZE.toInfo(properties),
+            YdbConfig.PERSISTENT_CACHE_FILE.toInfo(properties),
             YdbConfig.USE_QUERY_SERVICE.toInfo(properties),
             YdbConfig.USE_DISCOVERY.toInfo(properties),
+            YdbConfig.GRPC_CHANNELS_COUNT.toInfo(properties),
+            YdbConfig.USE_VIRTUAL_THREADS.toInfo(properties),
             YdbConfig.USE_PREFIX_PATH.toInfo(properties),
+            YdbConfig.READ_ONLY_ROUTING.toInfo(properties),
+            YdbConfig.READ_ONLY_ENDPOINT.toInfo(properties),
+            YdbConfig.READ_ONLY_LOCAL_DATACENTER.toInfo(properties),
 
             YdbConnectionProperties.LOCAL_DATACENTER.toInfo(properties),
             YdbConnectionProperties.USE_SECURE_CONNECTION.toInfo(properties),
@@ -217,8 +302,25 @@ public class YdbConfig {
             YdbClientProperties.SESSION_MAX_IDLE_TIME.toInfo(properties),
             YdbClientProperties.SESSION_POOL_SIZE_MIN.toInfo(properties),
             YdbClientProperties.SESSION_POOL_SIZE_MAX.toInfo(properties),
+            YdbClientProperties.READ_ONLY_SESSION_POOL_SIZE.toInfo(properties),
+            YdbClientProperties.SESSION_POOL_ADAPTIVE.toInfo(properties),
+            YdbClientProperties.SESSION_POOL_ADAPTIVE_TARGET_WAIT.toInfo(properties),
+            YdbClientProperties.SESSION_POOL_ADAPTIVE_LIMIT.toInfo(properties),
+            YdbClientProperties.SESSION_POOL_WARMUP.toInfo(properties),
+            YdbClientProperties.SESSION_POOL_WARMUP_WAIT.toInfo(properties),
 
             YdbOperationProperties.USE_STREAM_RESULT_SETS.toInfo(properties),
+            YdbOperationProperties.USE_COLUMNAR_RESULT_SETS.toInfo(properties),
+            YdbOperationProperties.USE_PARALLEL_DECODING.toInfo(properties),
+            YdbOperationProperties.BATCH_PARALLELISM.toInfo(properties),
+            YdbOperationProperties.BULK_UPSERT_CHUNK_ROWS.toInfo(properties),
+            YdbOperationProperties.BULK_UPSERT_CHUNK_SIZE_MIB.toInfo(properties),
+            YdbOperationProperties.BULK_UPSERT_INFLIGHT.toInfo(properties),
+            YdbOperationProperties.BATCH_SPLIT_SIZE_MIB.toInfo(properties),
+            YdbOperationProperties.BATCH_ADAPTIVE_SPLIT.toInfo(properties),
+            YdbOperationProperties.USE_DEFERRED_WRITES.toInfo(properties),
+            YdbOperationProperties.STATEMENT_CACHE_QUERIES.toInfo(properties),
+            YdbOperationProperties.STATEMENT_CACHE_SIZE_MIB.toInfo(properties),
             YdbOperationProperties.JOIN_DURATION.toInfo(properties),
             YdbOperationProperties.QUERY_TIMEOUT.toInfo(properties),
             YdbOperationProperties.SCAN_QUERY_TIMEOUT.toInfo(properties),
@@ -62,6 +62,63 @@ public class YdbOperationProperties {
             "Use stream implementation of ResultSet", true
     );
 
+    static final YdbProperty<Boolean> USE_COLUMNAR_RESULT_SETS = YdbProperty.bool("useColumnarResultSets",
+            "Decode in-memory ResultSets into columnar arrays on the first read", false
+    );
+
+    static final YdbProperty<Boolean> USE_PARALLEL_DECODING = YdbProperty.bool("useParallelDecoding",
+            "Decode every part of ResultSets into columnar arrays on the common ForkJoinPool as soon as it is "
+                    + "received. ResultSets of stream results are kept in memory until all their parts are decoded",
+            false
+    );
+
+    static final YdbProperty<Integer> BATCH_PARALLELISM = YdbProperty.integer("batchParallelism",
+            "Count of parallel sessions used by executeBatch in auto commit mode. Values greater than 1 enable "
+                    + "parallel execution, every batch entry is committed in its own transaction. Used only with "
+                    + "QueryService, TableService executes the batch in one transaction", 1
+    );
+
+    static final YdbProperty<Integer> BULK_UPSERT_CHUNK_ROWS = YdbProperty.integer("bulkUpsertChunkRows",
+            "Count of rows after which the batch of BULK UPSERT is sent by addBatch without waiting of executeBatch. "
+                    + "Sent rows are not revoked, clearBatch and close wait for them and report their errors. "
+                    + "A value of {@code 0} disables sending by count of rows", 0
+    );
+
+    static final YdbProperty<Integer> BULK_UPSERT_CHUNK_SIZE_MIB = YdbProperty.integer("bulkUpsertChunkSizeMiB",
+            "Size of rows in megabytes after which the batch of BULK UPSERT is sent by addBatch without waiting of "
+                    + "executeBatch. A value of {@code 0} disables sending by size of rows", 0
+    );
+
+    static final YdbProperty<Integer> BULK_UPSERT_INFLIGHT = YdbProperty.integer("bulkUpsertInflight",
+            "Maximum count of BULK UPSERT chunks sent concurrently, addBatch waits for completion of one of them "
+                    + "before sending the next chunk", 4
+    );
+
+    static final YdbProperty<Integer> BATCH_SPLIT_SIZE_MIB = YdbProperty.integer("batchSplitSizeMiB",
+            "Estimated size of rows in megabytes after which executeBatch splits the batch into several requests. "
+                    + "The requests of data queries are executed in the same transaction. A value of {@code 0} "
+                    + "disables splitting", 0
+    );
+
+    static final YdbProperty<Boolean> BATCH_ADAPTIVE_SPLIT = YdbProperty.bool("batchAdaptiveSplit",
+            "Tune count of rows in one request of split batch by observed throughput of previous executeBatch calls",
+            false
+    );
+
+    static final YdbProperty<Boolean> USE_DEFERRED_WRITES = YdbProperty.bool("useDeferredWrites",
+            "Defer DML queries without results inside of transaction (QueryService only) and send them together as "
+                    + "one query on commit or before the next query with results", false
+    );
+
+    static final YdbProperty<Integer> STATEMENT_CACHE_QUERIES = YdbProperty.integer("statementCacheQueries",
+            "Maximum count of closed prepared statements kept by every connection for reuse. A value of {@code 0} "
+                    + "disables the cache", 0
+    );
+
+    static final YdbProperty<Integer> STATEMENT_CACHE_SIZE_MIB = YdbProperty.integer("statementCacheSizeMiB",
+            "Maximum size of the query texts kept by the per-connection statement cache, in megabytes", 5
+    );
+
     static final YdbProperty<Boolean> FORCE_NEW_DATETYPES = YdbProperty.bool("forceSignedDatetimes",
             "Use new data types Date32/Datetime64/Timestamp64 by default", false
     );
@@ -98,6 +155,17 @@ public class YdbOperationProperties {
     private final YdbValue<FakeTxMode> bulkQueryTxMode;
 
     private final YdbValue<Boolean> useStreamResultSets;
+    private final YdbValue<Boolean> useColumnarResultSets;
+    private final YdbValue<Boolean> useParallelDecoding;
+    private final YdbValue<Integer> batchParallelism;
+    private final YdbValue<Integer> bulkUpsertChunkRows;
+    private final YdbValue<Integer> bulkUpsertChunkSizeMiB;
+    private final YdbValue<Integer> bulkUpsertInflight;
+    private final YdbValue<Integer> batchSplitSizeMiB;
+    private final YdbValue<Boolean> batchAdaptiveSplit;
+    private final YdbValue<Boolean> useDeferredWrites;
+    private final YdbValue<Integer> statementCacheQueries;
+    private final YdbValue<Integer> statementCacheSizeMiB;
     private final YdbValue<Boolean> forceNewDatetypes;
     private final YdbValue<Integer> decimalDefaultPrecision;
     private final YdbValue<Integer> decimalDefaultScale;
@@ -123,6 +191,17 @@ public class YdbOperationProperties {
         this.bulkQueryTxMode = BULK_QUERY_TX_MODE.readValue(props);
 
         this.useStreamResultSets = USE_STREAM_RESULT_SETS.readValue(props);
+        this.useColumnarResultSets = USE_COLUMNAR_RESULT_SETS.readValue(props);
+        this.useParallelDecoding = USE_PARALLEL_DECODING.readValue(props);
+        this.batchParallelism = BATCH_PARALLELISM.readValue(props);
+        this.bulkUpsertChunkRows = BULK_UPSERT_CHUNK_ROWS.readValue(props);
+        this.bulkUpsertChunkSizeMiB = BULK_UPSERT_CHUNK_SIZE_MIB.readValue(props);
+        this.bulkUpsertInflight = BULK_UPSERT_INFLIGHT.readValue(props);
+        this.batchSplitSizeMiB = BATCH_SPLIT_SIZE_MIB.readValue(props);
+        this.batchAdaptiveSplit = BATCH_ADAPTIVE_SPLIT.readValue(props);
+        this.useDeferredWrites = USE_DEFERRED_WRITES.readValue(props);
+        this.statementCacheQueries = STATEMENT_CACHE_QUERIES.readValue(props);
+        this.statementCacheSizeMiB = STATEMENT_CACHE_SIZE_MIB.readValue(props);
         this.forceNewDatetypes = FORCE_NEW_DATETYPES.readValue(props);
         this.decimalDefaultPrecision = DECIMAL_DEFAULT_PRECISION.readValue(props);
         this.decimalDefaultScale = DECIMAL_DEFAULT_SCALE.readValue(props);
@@ -183,6 +262,50 @@ public class YdbOperationProperties {
         return useStreamResultSets.getValue();
     }
 
+    public boolean getUseColumnarResultSets() {
+        return useColumnarResultSets.getValue();
+    }
+
+    public boolean getUseParallelDecoding() {
+        return useParallelDecoding.getValue();
+    }
+
+    public int getBatchParallelism() {
+        return batchParallelism.getValue();
+    }
+
+    public int getBulkUpsertChunkRows() {
+        return bulkUpsertChunkRows.getValue();
+    }
+
+    public int getBulkUpsertChunkSizeMiB() {
+        return bulkUpsertChunkSizeMiB.getValue();
+    }
+
+    public int getBulkUpsertInflight() {
+        return bulkUpsertInflight.getValue();
+    }
+
+    public int getBatchSplitSizeMiB() {
+        return batchSplitSizeMiB.getValue();
+    }
+
+    public boolean getBatchAdaptiveSplit() {
+        return batchAdaptiveSplit.getValue();
+    }
+
+    public boolean getUseDeferredWrites() {
+        return useDeferredWrites.getValue();
+    }
+
+    public int getStatementCacheQueries() {
+        return statementCacheQueries.getValue();
+    }
+
+    public int getStatementCacheSizeMiB() {
+        return statementCacheSizeMiB.getValue();
+    }
+
     public boolean getForceNewDatetypes() {
         return forceNewDatetypes.getValue();
     }
@@ -322,6 +322,22 @@ public class YdbDriverExampleTest {
                     jdbc.append("&").append("token=").append(ydb.authToken());
                 }
 
+                return jdbc.toString();
+            }
+        },
+        MULTI_CHANNEL {
+            @Override
+            String getJdbcURL() {
+                StringBuilder jdbc = new StringBuilder("jdbc:ydb:")
+                        .append(ydb.useTls() ? "grpcs://" : "grpc://")
+                        .append(ydb.endpoint())
+                        .append(ydb.database())
+                        .append("?useDiscovery=false&grpcChannelsCount=4");
+
+                if (ydb.authToken() != null) {
+                    jdbc.append("&").append("token=").append(ydb.authToken());
+                }
+
                 return jdbc.toString();
             }
         };
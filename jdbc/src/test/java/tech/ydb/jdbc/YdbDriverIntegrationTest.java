@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import tech.ydb.jdbc.context.MultiChannelTransport;
+import tech.ydb.jdbc.context.SessionPoolController;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.impl.YdbConnectionImpl;
 import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
@@ -265,6 +267,113 @@ public class YdbDriverIntegrationTest {
         }
     }
 
+    @Test
+    public void testAdaptiveSessionPool() throws SQLException {
+        String url = jdbcURL.withArg("sessionPoolAdaptive", "true").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            SessionPoolController controller = ctx.getSessionPoolController();
+
+            Assertions.assertTrue(controller.isEnabled());
+            Assertions.assertEquals(50, controller.getCurrentSize());
+
+            // count of connections doesn't change the size of adaptive pool
+            Deque<Connection> connections = new ArrayDeque<>();
+            for (int i = 0; i < 60; i++) {
+                connections.offer(DriverManager.getConnection(url));
+            }
+
+            Assertions.assertEquals(61, ctx.getConnectionsCount());
+            Assertions.assertEquals(50, ctx.getTableClient().sessionPoolStats().getMaxSize());
+
+            try (Statement st = conn.createStatement()) {
+                st.execute("SELECT 1");
+            }
+
+            for (Connection c: connections) {
+                c.close();
+            }
+
+            Assertions.assertEquals(1, ctx.getConnectionsCount());
+            Assertions.assertEquals(controller.getCurrentSize(), ctx.getTableClient().sessionPoolStats().getMaxSize());
+        }
+
+        url = jdbcURL.build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertFalse(ctx.getSessionPoolController().isEnabled());
+        }
+    }
+
+    @Test
+    public void testSessionPoolWarmup() throws SQLException {
+        String url = jdbcURL
+                .withArg("useQueryService", "false")
+                .withArg("sessionPoolSizeMin", "5")
+                .withArg("sessionPoolWarmup", "true")
+                .withArg("sessionPoolWarmupWait", "true")
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertEquals(5, ctx.getTableClient().sessionPoolStats().getIdleCount());
+            Assertions.assertNotEquals("unknown", ctx.getDatabaseVersion());
+        }
+    }
+
+    @Test
+    public void testReadOnlyRouting() throws SQLException {
+        String url = jdbcURL
+                .withArg("useQueryService", "false")
+                .withArg("readOnlyRouting", "true")
+                .withArg("readOnlySessionPoolSize", "3")
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertNotSame(ctx.getTableClient(), ctx.getReadOnlyTableClient());
+            Assertions.assertEquals(3, ctx.getReadOnlyTableClient().sessionPoolStats().getMaxSize());
+            Assertions.assertEquals(0, ctx.getReadOnlyTableClient().sessionPoolStats().getIdleCount());
+
+            conn.setReadOnly(true);
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("SELECT 1"));
+            }
+            conn.commit();
+
+            // read-only query used the session of the separate pool
+            Assertions.assertEquals(1, ctx.getReadOnlyTableClient().sessionPoolStats().getIdleCount());
+        }
+
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertSame(ctx.getTableClient(), ctx.getReadOnlyTableClient());
+        }
+    }
+
+    @Test
+    public void testMultiChannelTransport() throws SQLException {
+        String url = jdbcURL.withArg("useDiscovery", "false").withArg("grpcChannelsCount", "3").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertTrue(ctx.getGrpcTransport() instanceof MultiChannelTransport);
+            MultiChannelTransport transport = (MultiChannelTransport) ctx.getGrpcTransport();
+            Assertions.assertEquals(3, transport.getChannelsCount());
+            Assertions.assertFalse(transport.getScheduler().isShutdown());
+
+            try (Statement st = conn.createStatement()) {
+                for (int i = 0; i < 10; i++) {
+                    Assertions.assertTrue(st.execute("SELECT " + i));
+                }
+            }
+
+            long total = 0;
+            for (int idx = 0; idx < transport.getChannelsCount(); idx++) {
+                Assertions.assertTrue(transport.getChannelCallsCount(idx) > 0, "channel " + idx + " is not used");
+                total += transport.getChannelCallsCount(idx);
+            }
+            Assertions.assertTrue(total >= 10);
+        }
+    }
+
     @Test
     public void testFixedSessionPool() throws SQLException {
         assertFixedSessionPool("sessionPoolSizeMin", "0", 50);
@@ -0,0 +1,54 @@
+package tech.ydb.jdbc.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class VirtualThreadsTest {
+    private static boolean isJdk21() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    @Test
+    public void supportTest() {
+        Assertions.assertEquals(isJdk21(), VirtualThreads.isSupported());
+        if (!VirtualThreads.isSupported()) {
+            Assertions.assertNull(VirtualThreads.newFactory("test-"));
+            Assertions.assertNull(VirtualThreads.newPerTaskExecutor("test-"));
+        }
+    }
+
+    @Test
+    public void virtualThreadTest() throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            return;
+        }
+
+        ThreadFactory factory = VirtualThreads.newFactory("test-virtual-");
+        Assertions.assertNotNull(factory);
+        Thread thread = factory.newThread(() -> { });
+        Assertions.assertEquals("test-virtual-0", thread.getName());
+        Assertions.assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+
+        ExecutorService executor = VirtualThreads.newPerTaskExecutor("test-task-");
+        Assertions.assertNotNull(executor);
+        try {
+            String name = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).get();
+            Assertions.assertTrue(name.startsWith("test-task-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
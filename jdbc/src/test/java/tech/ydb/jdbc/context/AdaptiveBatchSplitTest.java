@@ -0,0 +1,81 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class AdaptiveBatchSplitTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void smallBatchesTest() {
+        AdaptiveBatchSplit split = new AdaptiveBatchSplit();
+        Assertions.assertEquals(AdaptiveBatchSplit.INITIAL_ROWS, split.getRows());
+
+        // batches without full request and batches without time are ignored
+        split.onBatch(AdaptiveBatchSplit.INITIAL_ROWS - 1, SECOND);
+        split.onBatch(10 * AdaptiveBatchSplit.INITIAL_ROWS, 0);
+        Assertions.assertEquals(AdaptiveBatchSplit.INITIAL_ROWS, split.getRows());
+    }
+
+    @Test
+    public void growingThroughputTest() {
+        AdaptiveBatchSplit split = new AdaptiveBatchSplit();
+
+        split.onBatch(1000, SECOND);
+        Assertions.assertEquals(1500, split.getRows());
+        split.onBatch(2000, SECOND);
+        Assertions.assertEquals(2250, split.getRows());
+        split.onBatch(3000, SECOND);
+        Assertions.assertEquals(3375, split.getRows());
+    }
+
+    @Test
+    public void droppedThroughputTest() {
+        AdaptiveBatchSplit split = new AdaptiveBatchSplit();
+
+        split.onBatch(10000, SECOND);
+        Assertions.assertEquals(1500, split.getRows());
+
+        // throughput drops - the direction turns back
+        split.onBatch(10000, 2 * SECOND);
+        Assertions.assertEquals(1000, split.getRows());
+
+        // throughput grows - the direction is kept
+        split.onBatch(10000, SECOND);
+        Assertions.assertEquals(666, split.getRows());
+
+        // throughput drops again - the size grows
+        split.onBatch(10000, 4 * SECOND);
+        Assertions.assertEquals(999, split.getRows());
+    }
+
+    @Test
+    public void limitsTest() {
+        AdaptiveBatchSplit split = new AdaptiveBatchSplit();
+        // the second batch is slower than the first one, the size goes down
+        split.onBatch(AdaptiveBatchSplit.MAX_ROWS, 2 * SECOND);
+        split.onBatch(AdaptiveBatchSplit.MAX_ROWS, 4 * SECOND);
+        long nanos = 3 * SECOND;
+        // every next batch is faster, the size keeps going down to the lower limit
+        for (int idx = 0; idx < 50; idx += 1) {
+            split.onBatch(AdaptiveBatchSplit.MAX_ROWS, nanos);
+            nanos -= SECOND / 100;
+        }
+        Assertions.assertEquals(AdaptiveBatchSplit.MIN_ROWS, split.getRows());
+
+        split = new AdaptiveBatchSplit();
+        nanos = 100 * SECOND;
+        // every next batch is faster, the size goes up to the upper limit
+        for (int idx = 0; idx < 50; idx += 1) {
+            split.onBatch(AdaptiveBatchSplit.MAX_ROWS, nanos);
+            nanos -= SECOND;
+        }
+        Assertions.assertEquals(AdaptiveBatchSplit.MAX_ROWS, split.getRows());
+    }
+}
@@ -0,0 +1,131 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class SessionPoolControllerTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Duration TARGET = Duration.ofMillis(10);
+
+    private final List<Integer> sizes = new ArrayList<>();
+
+    private SessionPoolController controller(int initialSize) {
+        sizes.clear();
+        return new SessionPoolController(initialSize, sizes::add, TARGET, 10, 100, null);
+    }
+
+    private static void feed(SessionPoolController controller, int count, long wait, StatusCode code) {
+        for (int idx = 0; idx < count; idx += 1) {
+            controller.onAcquired(wait, Status.of(code));
+        }
+    }
+
+    @Test
+    public void longWaitsIncreaseTest() {
+        SessionPoolController controller = controller(50);
+
+        feed(controller, 10, 50 * MS, StatusCode.SUCCESS);
+        controller.adjust();
+        Assertions.assertEquals(60, controller.getCurrentSize());
+        Assertions.assertEquals(Duration.ofMillis(50), controller.getLastAverageWait());
+        Assertions.assertEquals(0d, controller.getLastErrorRate());
+
+        // the pool doesn't grow above the limit
+        for (int idx = 0; idx < 10; idx += 1) {
+            feed(controller, 10, 50 * MS, StatusCode.SUCCESS);
+            controller.adjust();
+        }
+        Assertions.assertEquals(100, controller.getCurrentSize());
+        Assertions.assertEquals(5, controller.getIncreaseCount());
+        Assertions.assertEquals(0, controller.getDecreaseCount());
+    }
+
+    @Test
+    public void shortWaitsKeepSizeTest() {
+        SessionPoolController controller = controller(50);
+
+        feed(controller, 100, MS, StatusCode.SUCCESS);
+        controller.adjust();
+        Assertions.assertEquals(50, controller.getCurrentSize());
+        Assertions.assertTrue(sizes.isEmpty());
+    }
+
+    @Test
+    public void serverOverloadDecreaseTest() {
+        SessionPoolController controller = controller(50);
+
+        // overloaded server decreases the pool even if waits are long
+        feed(controller, 4, 50 * MS, StatusCode.SUCCESS);
+        feed(controller, 3, 50 * MS, StatusCode.OVERLOADED);
+        feed(controller, 3, 50 * MS, StatusCode.UNAVAILABLE);
+        controller.adjust();
+        Assertions.assertEquals(0.6d, controller.getLastErrorRate(), 0.0001d);
+        Assertions.assertEquals(37, controller.getCurrentSize());
+
+        // the pool doesn't shrink below the limit
+        for (int idx = 0; idx < 10; idx += 1) {
+            feed(controller, 10, MS, StatusCode.OVERLOADED);
+            controller.adjust();
+        }
+        Assertions.assertEquals(10, controller.getCurrentSize());
+        Assertions.assertEquals(0, controller.getIncreaseCount());
+    }
+
+    @Test
+    public void clientWaitTimeoutsIncreaseTest() {
+        SessionPoolController controller = controller(50);
+
+        // timeouts of the client pool queue are not failures of the server, they mean the pool is too small
+        feed(controller, 10, MS, StatusCode.SUCCESS);
+        feed(controller, 10, MS, StatusCode.CLIENT_DEADLINE_EXPIRED);
+        controller.adjust();
+        Assertions.assertEquals(0d, controller.getLastErrorRate());
+        Assertions.assertEquals(60, controller.getCurrentSize());
+
+        feed(controller, 10, 50 * MS, StatusCode.CLIENT_RESOURCE_EXHAUSTED);
+        controller.adjust();
+        Assertions.assertEquals(0d, controller.getLastErrorRate());
+        Assertions.assertEquals(70, controller.getCurrentSize());
+    }
+
+    @Test
+    public void otherErrorsIgnoredTest() {
+        SessionPoolController controller = controller(50);
+
+        feed(controller, 10, MS, StatusCode.BAD_SESSION);
+        feed(controller, 10, MS, StatusCode.CLIENT_CANCELLED);
+        feed(controller, 10, MS, StatusCode.UNAUTHORIZED);
+        controller.adjust();
+        Assertions.assertEquals(0d, controller.getLastErrorRate());
+        Assertions.assertEquals(50, controller.getCurrentSize());
+        Assertions.assertTrue(sizes.isEmpty());
+    }
+
+    @Test
+    public void idleDecreaseTest() {
+        SessionPoolController controller = controller(50);
+
+        for (int idx = 0; idx < 29; idx += 1) {
+            controller.adjust();
+        }
+        Assertions.assertEquals(50, controller.getCurrentSize());
+
+        controller.adjust();
+        Assertions.assertEquals(37, controller.getCurrentSize());
+        Assertions.assertEquals(1, controller.getDecreaseCount());
+        Assertions.assertEquals(1, sizes.size());
+        Assertions.assertEquals(37, (int) sizes.get(0));
+    }
+}
@@ -0,0 +1,86 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.YdbPrepareMode;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb);
+
+    private static final int THREADS = 16;
+
+    @Test
+    public void concurrentPrepareTest() throws Exception {
+        String sql = "DECLARE $p AS Int32; SELECT $p + 12345;";
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            YdbCacheStats before = ctx.getQueryParamsCacheStats();
+
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int idx = 0; idx < THREADS; idx++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        barrier.await();
+                        YdbQuery query = ctx.parseYdbQuery(new QueryKey(sql));
+                        Assertions.assertNotNull(ctx.prepareYdbQuery(query, YdbPrepareMode.AUTO));
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+            YdbCacheStats after = ctx.getQueryParamsCacheStats();
+            // only one prepare request is sent, other threads waited for it or got the cached value
+            Assertions.assertEquals(1, after.getLoadCount() - before.getLoadCount());
+            Assertions.assertEquals(THREADS, after.getHitCount() + after.getMissCount()
+                    - before.getHitCount() - before.getMissCount());
+            Assertions.assertEquals(0, after.getLoadFailureCount() - before.getLoadFailureCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void failedPrepareIsNotCachedTest() throws SQLException {
+        String sql = "DECLARE $p AS Int32; SELECT * FROM unknown_cache_table WHERE id = $p;";
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            YdbCacheStats before = ctx.getQueryParamsCacheStats();
+
+            YdbQuery query = ctx.parseYdbQuery(new QueryKey(sql));
+            Assertions.assertThrows(SQLException.class, () -> ctx.prepareYdbQuery(query, YdbPrepareMode.AUTO));
+            Assertions.assertThrows(SQLException.class, () -> ctx.prepareYdbQuery(query, YdbPrepareMode.AUTO));
+
+            YdbCacheStats after = ctx.getQueryParamsCacheStats();
+            Assertions.assertEquals(2, after.getLoadCount() - before.getLoadCount());
+            Assertions.assertEquals(2, after.getLoadFailureCount() - before.getLoadFailureCount());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package tech.ydb.jdbc.context;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbPersistentCacheTest {
+    private static final String DATABASE = "/local";
+    private static final String VERSION = "stable-25-1";
+
+    private static final String QUERY1 = "DECLARE $id AS Int32; SELECT * FROM t WHERE id = $id";
+    private static final String QUERY2 = "DECLARE $v AS Optional<Text>; SELECT $v";
+
+    @TempDir
+    Path dir;
+
+    private static Map<String, Map<String, Type>> params() {
+        Map<String, Map<String, Type>> params = new HashMap<>();
+        params.put(QUERY1, Collections.singletonMap("$id", PrimitiveType.Int32));
+        params.put(QUERY2, Collections.singletonMap("$v", PrimitiveType.Text.makeOptional()));
+        return params;
+    }
+
+    private static Map<String, TableDescription> tables() {
+        TableDescription description = TableDescription.newBuilder()
+                .addNonnullColumn("id", PrimitiveType.Int32)
+                .addNullableColumn("value", PrimitiveType.Text)
+                .setPrimaryKey("id")
+                .build();
+        return Collections.singletonMap("/local/t", description);
+    }
+
+    private String saveDefault() {
+        String file = dir.resolve("ydb.cache").toString();
+        YdbPersistentCache cache = YdbPersistentCache.load(file, DATABASE, VERSION);
+        cache.save(params(), tables(), 100);
+        return file;
+    }
+
+    private static void assertEmpty(YdbPersistentCache cache) {
+        Assertions.assertNull(cache.getQueryParams(QUERY1));
+        Assertions.assertNull(cache.getQueryParams(QUERY2));
+        Assertions.assertNull(cache.getTableDescription("/local/t"));
+    }
+
+    @Test
+    public void roundTripTest() {
+        String file = saveDefault();
+
+        YdbPersistentCache cache = YdbPersistentCache.load(file, DATABASE, VERSION);
+        Assertions.assertEquals(params().get(QUERY1), cache.getQueryParams(QUERY1));
+        Assertions.assertEquals(params().get(QUERY2), cache.getQueryParams(QUERY2));
+        Assertions.assertNull(cache.getQueryParams("SELECT 1"));
+
+        TableDescription description = cache.getTableDescription("/local/t");
+        Assertions.assertNotNull(description);
+        Assertions.assertEquals(Collections.singletonList("id"), description.getPrimaryKeys());
+        Assertions.assertEquals(2, description.getColumns().size());
+        Assertions.assertEquals("id", description.getColumns().get(0).getName());
+        Assertions.assertEquals(PrimitiveType.Int32, description.getColumns().get(0).getType());
+        Assertions.assertEquals("value", description.getColumns().get(1).getName());
+        Assertions.assertEquals(OptionalType.of(PrimitiveType.Text), description.getColumns().get(1).getType());
+
+        // the temporary files are removed after save
+        Assertions.assertEquals(Collections.singletonList(dir.resolve("ydb.cache")), list());
+    }
+
+    @Test
+    public void mismatchTest() {
+        String file = saveDefault();
+
+        assertEmpty(YdbPersistentCache.load(file, "/other", VERSION));
+        assertEmpty(YdbPersistentCache.load(file, DATABASE, "stable-25-2"));
+        assertEmpty(YdbPersistentCache.load(file, DATABASE, "unknown"));
+
+        // cache with unknown version doesn't touch the file
+        YdbPersistentCache.load(file, DATABASE, "unknown").save(Collections.emptyMap(), Collections.emptyMap(), 100);
+        Assertions.assertNotNull(YdbPersistentCache.load(file, DATABASE, VERSION).getQueryParams(QUERY1));
+    }
+
+    @Test
+    public void brokenFileTest() throws IOException {
+        String file = saveDefault();
+        Path path = dir.resolve("ydb.cache");
+        byte[] content = Files.readAllBytes(path);
+
+        for (int length: new int[] {0, 3, 8, 20, content.length / 2, content.length - 1}) {
+            Files.write(path, Arrays.copyOf(content, length));
+            assertEmpty(YdbPersistentCache.load(file, DATABASE, VERSION));
+        }
+
+        byte[] corrupted = content.clone();
+        for (int idx = 8; idx < corrupted.length; idx += 7) {
+            corrupted[idx] = (byte) 0xFF;
+        }
+        Files.write(path, corrupted);
+        assertEmpty(YdbPersistentCache.load(file, DATABASE, VERSION));
+
+        Files.write(path, "not a cache file".getBytes(StandardCharsets.UTF_8));
+        assertEmpty(YdbPersistentCache.load(file, DATABASE, VERSION));
+
+        // broken file is overwritten by the next save
+        YdbPersistentCache.load(file, DATABASE, VERSION).save(params(), tables(), 100);
+        Assertions.assertNotNull(YdbPersistentCache.load(file, DATABASE, VERSION).getQueryParams(QUERY1));
+    }
+
+    @Test
+    public void unusedEntriesTest() {
+        String file = saveDefault();
+
+        YdbPersistentCache cache = YdbPersistentCache.load(file, DATABASE, VERSION);
+        Map<String, Map<String, Type>> used = new HashMap<>();
+        used.put(QUERY1, cache.getQueryParams(QUERY1));
+        cache.save(used, Collections.emptyMap(), 100);
+
+        YdbPersistentCache reloaded = YdbPersistentCache.load(file, DATABASE, VERSION);
+        Assertions.assertNotNull(reloaded.getQueryParams(QUERY1));
+        Assertions.assertNull(reloaded.getQueryParams(QUERY2));
+        Assertions.assertNull(reloaded.getTableDescription("/local/t"));
+    }
+
+    @Test
+    public void expiredEntriesTest() throws InterruptedException {
+        String file = saveDefault();
+        Thread.sleep(200);
+
+        assertEmpty(YdbPersistentCache.load(file, DATABASE, VERSION, 100));
+
+        // reused entry keeps the time of the first save, requested again entry gets the new time
+        YdbPersistentCache cache = YdbPersistentCache.load(file, DATABASE, VERSION);
+        Map<String, Map<String, Type>> used = new HashMap<>();
+        used.put(QUERY1, cache.getQueryParams(QUERY1));
+        used.put(QUERY2, params().get(QUERY2));
+        cache.save(used, Collections.emptyMap(), 100);
+
+        YdbPersistentCache reloaded = YdbPersistentCache.load(file, DATABASE, VERSION, 100);
+        Assertions.assertNull(reloaded.getQueryParams(QUERY1));
+        Assertions.assertNotNull(reloaded.getQueryParams(QUERY2));
+    }
+
+    @Test
+    public void dropTest() {
+        String file = saveDefault();
+
+        YdbPersistentCache cache = YdbPersistentCache.load(file, DATABASE, VERSION);
+        cache.drop(QUERY1, "/local/t");
+        cache.drop(QUERY2, null);
+        Assertions.assertNull(cache.getQueryParams(QUERY1));
+        Assertions.assertNull(cache.getQueryParams(QUERY2));
+        Assertions.assertNull(cache.getTableDescription("/local/t"));
+
+        // dropped entries requested again are saved with the new values
+        Map<String, Map<String, Type>> used = new HashMap<>();
+        used.put(QUERY1, Collections.singletonMap("$id", PrimitiveType.Int64));
+        cache.save(used, Collections.emptyMap(), 100);
+
+        YdbPersistentCache reloaded = YdbPersistentCache.load(file, DATABASE, VERSION);
+        Assertions.assertEquals(used.get(QUERY1), reloaded.getQueryParams(QUERY1));
+        Assertions.assertNull(reloaded.getQueryParams(QUERY2));
+    }
+
+    @Test
+    public void longEntriesTest() {
+        StringBuilder sb = new StringBuilder("DECLARE $id AS Int32; SELECT * FROM t WHERE id = $id");
+        while (sb.length() < 100000) {
+            sb.append(" OR id = $id");
+        }
+        String query = sb.toString();
+
+        String file = dir.resolve("ydb.cache").toString();
+        YdbPersistentCache.load(file, DATABASE, VERSION)
+                .save(Collections.singletonMap(query, params().get(QUERY1)), tables(), 100);
+
+        // the length of entry is bigger than the read buffer, it is checked by the size of file
+        YdbPersistentCache cache = YdbPersistentCache.load(file, DATABASE, VERSION);
+        Assertions.assertEquals(params().get(QUERY1), cache.getQueryParams(query));
+        Assertions.assertNotNull(cache.getTableDescription("/local/t"));
+    }
+
+    private List<Path> list() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package tech.ydb.jdbc.impl;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
@@ -7,10 +8,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
@@ -30,11 +35,18 @@ import tech.ydb.core.grpc.GrpcTransport;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbDatabaseMetaData;
+import tech.ydb.jdbc.YdbFlow;
+import tech.ydb.jdbc.YdbPreparedStatement;
+import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.VirtualThreads;
+import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.impl.helper.ExceptionAssert;
 import tech.ydb.jdbc.impl.helper.JdbcConnectionExtention;
 import tech.ydb.jdbc.impl.helper.SqlQueries;
 import tech.ydb.jdbc.impl.helper.StatsAssert;
 import tech.ydb.jdbc.impl.helper.TableAssert;
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.test.junit5.YdbHelperExtension;
 
 public class YdbConnectionImplTest {
@@ -1126,6 +1138,29 @@ public class YdbConnectionImplTest {
         }
     }
 
+    @Test
+    public void fullScanAnalyzerSamplingTest() throws SQLException {
+        StatsAssert sa = new StatsAssert();
+        Properties props = new Properties();
+        props.setProperty("jdbcFullScanDetector", "true");
+        props.setProperty("jdbcFullScanDetectorSampling", "0");
+
+        try (Connection connection = jdbc.createCustomConnection(props)) {
+            try (Statement st = connection.createStatement()) {
+                try (ResultSet rs = st.executeQuery(QUERIES.selectAllSQL())) {
+                    Assertions.assertFalse(rs.next());
+                }
+
+                // no one query is sampled
+                try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
+                    sa.check(rs)
+                            .assertMetaColumns()
+                            .assertNoRows();
+                }
+            }
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     public void fullScanAnalyzerStatementTest(boolean useStreamResultSets) throws SQLException {
@@ -1299,4 +1334,587 @@ public class YdbConnectionImplTest {
             }
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void parallelBatchTest(boolean useQueryService) throws SQLException {
+        String upsert = QUERIES.upsertOne(SqlQueries.JdbcQuery.IN_MEMORY, "c_Text", "Text");
+        String insert = QUERIES.insertOne(SqlQueries.JdbcQuery.IN_MEMORY, "c_Text", "Text");
+        String select = QUERIES.withTableName("select count(*) from #tableName");
+
+        Properties props = new Properties();
+        props.setProperty("batchParallelism", "4");
+        props.setProperty("useQueryService", String.valueOf(useQueryService));
+        try (Connection connection = jdbc.createCustomConnection(props)) {
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                for (int key = 1; key <= 50; key++) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "value-" + key);
+                    ps.addBatch();
+                }
+                int[] counts = ps.executeBatch();
+                Assertions.assertEquals(50, counts.length);
+            }
+
+            // failed entry is reported as usual SQLException
+            try (PreparedStatement ps = connection.prepareStatement(insert)) {
+                for (int key = 45; key <= 55; key++) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "value-" + key);
+                    ps.addBatch();
+                }
+                SQLException ex = Assertions.assertThrows(SQLException.class, ps::executeBatch);
+                Assertions.assertTrue(ex.getMessage().contains("Conflict with existing key"), ex.getMessage());
+
+                if (useQueryService) {
+                    // parallel batch reports the result of every entry
+                    Assertions.assertTrue(ex instanceof BatchUpdateException);
+                    int[] counts = ((BatchUpdateException) ex).getUpdateCounts();
+                    Assertions.assertEquals(11, counts.length);
+                    for (int idx = 0; idx < counts.length; idx++) {
+                        Assertions.assertTrue(counts[idx] == Statement.SUCCESS_NO_INFO
+                                || counts[idx] == Statement.EXECUTE_FAILED);
+                    }
+                    // entries with keys 45..50 conflict with existing rows
+                    for (int idx = 0; idx < 6; idx++) {
+                        Assertions.assertEquals(Statement.EXECUTE_FAILED, counts[idx]);
+                    }
+                }
+            }
+
+            try (Statement st = connection.createStatement()) {
+                try (ResultSet rs = st.executeQuery(select)) {
+                    Assertions.assertTrue(rs.next());
+                    if (useQueryService) {
+                        // every entry is committed in its own transaction
+                        Assertions.assertTrue(rs.getLong(1) >= 50);
+                    } else {
+                        // TableService executes whole batch in one transaction
+                        Assertions.assertEquals(50, rs.getLong(1));
+                    }
+                    Assertions.assertFalse(rs.next());
+                }
+                st.execute(QUERIES.deleteAllSQL());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void failedBatchRollbackTest(boolean useQueryService) throws SQLException {
+        String insert = QUERIES.insertOne(SqlQueries.JdbcQuery.IN_MEMORY, "c_Text", "Text");
+        String select = QUERIES.withTableName("select count(*) from #tableName");
+
+        try (Connection connection = jdbc.createCustomConnection("useQueryService", String.valueOf(useQueryService))) {
+            try (PreparedStatement ps = connection.prepareStatement(insert)) {
+                for (int key : new int[] {1, 2, 1}) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "value-" + key);
+                    ps.addBatch();
+                }
+                Assertions.assertThrows(SQLException.class, ps::executeBatch);
+            }
+
+            // failed batch is rolled back and auto commit mode is restored
+            Assertions.assertTrue(connection.getAutoCommit());
+            Assertions.assertNull(getTxId(connection));
+
+            try (Statement st = connection.createStatement()) {
+                try (ResultSet rs = st.executeQuery(select)) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(0, rs.getLong(1));
+                    Assertions.assertFalse(rs.next());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void statementCacheTest() throws SQLException {
+        String upsert = QUERIES.upsertOne(SqlQueries.JdbcQuery.STANDARD, "c_Text", "Text");
+
+        try (Connection conn = jdbc.createCustomConnection("statementCacheQueries", "10")) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+
+            PreparedStatement first = conn.prepareStatement(upsert);
+            first.setInt(1, 1);
+            first.setString(2, "value-1");
+            first.close();
+
+            long lookups = ctx.getQueriesCacheStats().getHitCount() + ctx.getQueriesCacheStats().getMissCount();
+            try (PreparedStatement second = conn.prepareStatement(upsert)) {
+                // the closed statement is reused without parsing and parameters are cleared
+                Assertions.assertEquals(lookups,
+                        ctx.getQueriesCacheStats().getHitCount() + ctx.getQueriesCacheStats().getMissCount());
+                Assertions.assertThrows(SQLException.class, second::execute);
+
+                // the cached statement is already taken, so the concurrent one is prepared again
+                try (PreparedStatement third = conn.prepareStatement(upsert)) {
+                    Assertions.assertEquals(lookups + 1,
+                            ctx.getQueriesCacheStats().getHitCount() + ctx.getQueriesCacheStats().getMissCount());
+                    third.setInt(1, 1);
+                    third.setString(2, "value-1");
+                    third.execute();
+                }
+            }
+
+            try (Statement st = conn.createStatement()) {
+                st.execute(QUERIES.deleteAllSQL());
+            }
+        }
+    }
+
+    @Test
+    public void statementCacheBatchTest() throws SQLException {
+        String upsert = QUERIES.upsertOne(SqlQueries.JdbcQuery.BATCHED, "c_Text", "Text");
+
+        try (Connection conn = jdbc.createCustomConnection("statementCacheQueries", "10")) {
+            PreparedStatement first = conn.prepareStatement(upsert);
+            first.setInt(1, 1);
+            first.setString(2, "value-1");
+            first.addBatch();
+            first.setInt(1, 2);
+            first.setString(2, "value-2");
+            first.addBatch();
+            first.close();
+
+            try (PreparedStatement second = conn.prepareStatement(upsert)) {
+                // the batch of the closed statement is abandoned
+                Assertions.assertArrayEquals(new int[0], second.executeBatch());
+            }
+
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery(QUERIES.withTableName("select count(*) from #tableName"))) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(0, rs.getLong(1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void asyncExecutionTest() throws Exception {
+        String upsert = QUERIES.upsertOne(SqlQueries.JdbcQuery.IN_MEMORY, "c_Text", "Text");
+        String select = QUERIES.withTableName("select count(*) from #tableName");
+
+        try (YdbPreparedStatement ps = jdbc.connection().prepareStatement(upsert).unwrap(YdbPreparedStatement.class)) {
+            ps.setInt(1, 1);
+            ps.setString(2, "value-1");
+            CompletableFuture<YdbQueryResult> single = ps.executeUpdateAsync().toCompletableFuture();
+
+            for (int key = 2; key <= 10; key++) {
+                ps.setInt(1, key);
+                ps.setString(2, "value-" + key);
+                ps.addBatch();
+            }
+            CompletableFuture<YdbQueryResult> batch = ps.executeBatchAsync().toCompletableFuture();
+
+            Assertions.assertFalse(single.get(10, TimeUnit.SECONDS).hasResultSets());
+            Assertions.assertFalse(batch.get(10, TimeUnit.SECONDS).hasResultSets());
+        }
+
+        try (YdbStatement st = jdbc.connection().createStatement().unwrap(YdbStatement.class)) {
+            YdbQueryResult result = st.executeQueryAsync(select).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            try (ResultSet rs = result.getCurrentResultSet()) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(10, rs.getLong(1));
+                Assertions.assertFalse(rs.next());
+            }
+
+            ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                    () -> st.executeUpdateAsync(select).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(YdbConst.QUERY_EXPECT_UPDATE, ex.getCause().getMessage());
+
+            st.execute(QUERIES.deleteAllSQL());
+        }
+
+        jdbc.connection().setAutoCommit(false);
+        try (YdbStatement st = jdbc.connection().createStatement().unwrap(YdbStatement.class)) {
+            ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                    () -> st.executeQueryAsync(select).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(YdbConst.ASYNC_EXECUTION_UNSUPPORTED, ex.getCause().getMessage());
+        } finally {
+            jdbc.connection().setAutoCommit(true);
+        }
+    }
+
+    @Test
+    public void asyncCallbackExecutorTest() throws Exception {
+        YdbContext ctx = jdbc.connection().unwrap(YdbConnection.class).getCtx();
+        Assertions.assertSame(ForkJoinPool.commonPool(), ctx.getCallbackExecutor());
+
+        try (Connection connection = jdbc.createCustomConnection("useVirtualThreads", "true")) {
+            YdbContext virtual = connection.unwrap(YdbConnection.class).getCtx();
+            // virtual threads are used only by JDK 21+
+            Assertions.assertEquals(VirtualThreads.isSupported(),
+                    virtual.getCallbackExecutor() != ForkJoinPool.commonPool());
+
+            try (YdbStatement st = connection.createStatement().unwrap(YdbStatement.class)) {
+                YdbQueryResult result = st.executeQueryAsync(SELECT_2_2).toCompletableFuture()
+                        .get(10, TimeUnit.SECONDS);
+                try (ResultSet rs = result.getCurrentResultSet()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(4, rs.getInt(1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void publishQueryTest() throws Exception {
+        String upsert = QUERIES.upsertOne(SqlQueries.JdbcQuery.IN_MEMORY, "c_Text", "Text");
+        String select = QUERIES.withTableName("select key, c_Text from #tableName order by key");
+
+        try (PreparedStatement ps = jdbc.connection().prepareStatement(upsert)) {
+            for (int key = 1; key <= 100; key++) {
+                ps.setInt(1, key);
+                ps.setString(2, "value-" + key);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        try (YdbStatement st = jdbc.connection().createStatement().unwrap(YdbStatement.class)) {
+            CompletableFuture<Integer> rowsCount = new CompletableFuture<>();
+            st.publishQuery(select).subscribe(new YdbFlow.Subscriber<ResultSetReader>() {
+                private YdbFlow.Subscription subscription;
+                private int count = 0;
+
+                @Override
+                public void onSubscribe(YdbFlow.Subscription s) {
+                    subscription = s;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(ResultSetReader part) {
+                    count += part.getRowCount();
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable th) {
+                    rowsCount.completeExceptionally(th);
+                }
+
+                @Override
+                public void onComplete() {
+                    rowsCount.complete(count);
+                }
+            });
+            Assertions.assertEquals(100, rowsCount.get(10, TimeUnit.SECONDS));
+
+            CompletableFuture<Integer> wrongQuery = new CompletableFuture<>();
+            st.publishQuery("select * from unknown_table").subscribe(new YdbFlow.Subscriber<ResultSetReader>() {
+                @Override
+                public void onSubscribe(YdbFlow.Subscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ResultSetReader part) {
+                    wrongQuery.complete(part.getRowCount());
+                }
+
+                @Override
+                public void onError(Throwable th) {
+                    wrongQuery.completeExceptionally(th);
+                }
+
+                @Override
+                public void onComplete() {
+                    wrongQuery.complete(-1);
+                }
+            });
+            ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                    () -> wrongQuery.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(ex.getCause() instanceof SQLException);
+
+            st.execute(QUERIES.deleteAllSQL());
+        }
+    }
+
+    @Test
+    public void columnarResultSetsTest() throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Int32, c_Int64, c_Uint32, c_Float, "
+                + "c_Double, c_Text) values (?, ?, ?, ?, ?, ?, ?)");
+        String select = QUERIES.withTableName("select key, c_Int32, c_Int64, c_Uint32, c_Float, c_Double, c_Text "
+                + "from #tableName order by key");
+
+        Properties props = new Properties();
+        props.setProperty("useStreamResultSets", "false");
+        props.setProperty("useColumnarResultSets", "true");
+
+        try (Connection connection = jdbc.createCustomConnection(props)) {
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                for (int key = 1; key <= 100; key++) {
+                    boolean isNull = key % 10 == 0;
+                    ps.setInt(1, key);
+                    ps.setObject(2, isNull ? null : -key, Types.INTEGER);
+                    ps.setObject(3, isNull ? null : key * 1000000000L, Types.BIGINT);
+                    ps.setObject(4, isNull ? null : 3000000000L + key, Types.BIGINT);
+                    ps.setObject(5, isNull ? null : key + 0.5f, Types.FLOAT);
+                    ps.setObject(6, isNull ? null : key / 4d, Types.DOUBLE);
+                    ps.setString(7, isNull ? null : "text-" + (key % 3));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            try (Statement st = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                try (ResultSet rs = st.executeQuery(select)) {
+                    int key = 0;
+                    while (rs.next()) {
+                        key++;
+                        assertColumnarRow(rs, key);
+                    }
+                    Assertions.assertEquals(100, key);
+
+                    // scroll back and read the same rows again
+                    Assertions.assertTrue(rs.absolute(50));
+                    assertColumnarRow(rs, 50);
+                    Assertions.assertTrue(rs.previous());
+                    assertColumnarRow(rs, 49);
+                    Assertions.assertTrue(rs.first());
+                    assertColumnarRow(rs, 1);
+                    Assertions.assertTrue(rs.last());
+                    assertColumnarRow(rs, 100);
+                }
+
+                st.execute(QUERIES.deleteAllSQL());
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "Check parallel decoding with useStreamResultSets={0}")
+    @ValueSource(booleans = { true, false })
+    public void parallelDecodingTest(boolean useStream) throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Int32, c_Int64, c_Uint32, c_Float, "
+                + "c_Double, c_Text) values (?, ?, ?, ?, ?, ?, ?)");
+        String select = QUERIES.withTableName("select key, c_Int32, c_Int64, c_Uint32, c_Float, c_Double, c_Text "
+                + "from #tableName order by key");
+
+        Properties props = new Properties();
+        props.setProperty("useStreamResultSets", String.valueOf(useStream));
+        props.setProperty("useParallelDecoding", "true");
+
+        try (Connection connection = jdbc.createCustomConnection(props)) {
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                for (int key = 1; key <= 100; key++) {
+                    boolean isNull = key % 10 == 0;
+                    ps.setInt(1, key);
+                    ps.setObject(2, isNull ? null : -key, Types.INTEGER);
+                    ps.setObject(3, isNull ? null : key * 1000000000L, Types.BIGINT);
+                    ps.setObject(4, isNull ? null : 3000000000L + key, Types.BIGINT);
+                    ps.setObject(5, isNull ? null : key + 0.5f, Types.FLOAT);
+                    ps.setObject(6, isNull ? null : key / 4d, Types.DOUBLE);
+                    ps.setString(7, isNull ? null : "text-" + (key % 3));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            try (Statement st = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                try (ResultSet rs = st.executeQuery(select)) {
+                    Assertions.assertTrue(rs.isWrapperFor(YdbResultSetMemory.class));
+                    Assertions.assertTrue(rs.unwrap(YdbResultSetMemory.class).isColumnar());
+
+                    int key = 0;
+                    while (rs.next()) {
+                        key++;
+                        assertColumnarRow(rs, key);
+                    }
+                    Assertions.assertEquals(100, key);
+
+                    Assertions.assertTrue(rs.absolute(50));
+                    assertColumnarRow(rs, 50);
+                }
+
+                st.execute(QUERIES.deleteAllSQL());
+            }
+        }
+    }
+
+    @Test
+    public void deferredWritesTest() throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Text) values (?, ?)");
+        String update = QUERIES.withTableName("update #tableName set c_Text = ? where key = ?");
+        String select = QUERIES.withTableName("select key, c_Text from #tableName order by key");
+
+        try (Connection connection = jdbc.createCustomConnection("useDeferredWrites", "true")) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps1 = connection.prepareStatement(upsert);
+                    PreparedStatement ps2 = connection.prepareStatement(update)) {
+                ps1.setInt(1, 1);
+                ps1.setString(2, "first");
+                Assertions.assertEquals(1, ps1.executeUpdate());
+
+                ps1.setInt(1, 2);
+                ps1.setString(2, "second");
+                Assertions.assertEquals(1, ps1.executeUpdate());
+
+                // writes are deferred, so the transaction isn't started on the server yet
+                Assertions.assertNull(getTxId(connection));
+
+                ps2.setString(1, "updated");
+                ps2.setInt(2, 2);
+                Assertions.assertEquals(1, ps2.executeUpdate());
+            }
+
+            // the next read sends the deferred writes first
+            try (Statement st = connection.createStatement()) {
+                try (ResultSet rs = st.executeQuery(select)) {
+                    Assertions.assertNotNull(getTxId(connection));
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("first", rs.getString("c_Text"));
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("updated", rs.getString("c_Text"));
+                    Assertions.assertFalse(rs.next());
+                }
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                ps.setInt(1, 3);
+                ps.setString(2, "third");
+                ps.executeUpdate();
+                connection.commit();
+
+                // rollback forgets deferred writes
+                ps.setInt(1, 4);
+                ps.setString(2, "fourth");
+                ps.executeUpdate();
+                connection.rollback();
+            }
+
+            try (Statement st = connection.createStatement()) {
+                try (ResultSet rs = st.executeQuery(select)) {
+                    for (int key = 1; key <= 3; key++) {
+                        Assertions.assertTrue(rs.next());
+                        Assertions.assertEquals(key, rs.getInt("key"));
+                    }
+                    Assertions.assertFalse(rs.next());
+                }
+                connection.commit();
+                st.execute(QUERIES.deleteAllSQL());
+                connection.commit();
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "Check execute and commit with useDeferredWrites={0}")
+    @ValueSource(booleans = { true, false })
+    public void executeAndCommitTest(boolean useDeferredWrites) throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Text) values (?, ?)");
+        String select = QUERIES.withTableName("select key, c_Text from #tableName where key = ?");
+
+        String deferred = String.valueOf(useDeferredWrites);
+        try (Connection connection = jdbc.createCustomConnection("useDeferredWrites", deferred)) {
+            connection.setAutoCommit(false);
+
+            try (YdbPreparedStatement ps = connection.prepareStatement(upsert).unwrap(YdbPreparedStatement.class)) {
+                ps.setInt(1, 1);
+                ps.setString(2, "first");
+                ps.executeUpdate();
+
+                ps.setInt(1, 2);
+                ps.setString(2, "second");
+                Assertions.assertFalse(ps.executeAndCommit());
+                Assertions.assertNull(getTxId(connection));
+            }
+
+            try (YdbPreparedStatement ps = connection.prepareStatement(select).unwrap(YdbPreparedStatement.class)) {
+                ps.setInt(1, 2);
+                Assertions.assertTrue(ps.executeAndCommit());
+                Assertions.assertNull(getTxId(connection));
+
+                try (ResultSet rs = ps.getResultSet()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("second", rs.getString("c_Text"));
+                    Assertions.assertFalse(rs.next());
+                }
+            }
+
+            // both rows are committed
+            connection.rollback();
+            try (Statement st = connection.createStatement()) {
+                try (ResultSet rs = st.executeQuery(QUERIES.withTableName("select count(*) from #tableName"))) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(2, rs.getLong(1));
+                }
+                connection.commit();
+                st.execute(QUERIES.deleteAllSQL());
+                connection.commit();
+            }
+        }
+    }
+
+    @Test
+    public void parallelDecodingForwardOnlyTest() throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Text) values (?, ?)");
+        String select = QUERIES.withTableName("select key, c_Text from #tableName order by key");
+        int rowsCount = 50000;
+
+        Properties props = new Properties();
+        props.setProperty("useStreamResultSets", "true");
+        props.setProperty("useParallelDecoding", "true");
+
+        try (Connection connection = jdbc.createCustomConnection(props)) {
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                for (int key = 1; key <= rowsCount; key++) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "text-" + key);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            // the result has many parts, they are decoded while the stream is being received
+            for (int attempt = 0; attempt < 3; attempt++) {
+                try (Statement st = connection.createStatement()) {
+                    try (ResultSet rs = st.executeQuery(select)) {
+                        Assertions.assertTrue(rs.unwrap(YdbResultSetMemory.class).isColumnar());
+                        int key = 0;
+                        while (rs.next()) {
+                            key++;
+                            Assertions.assertEquals(key, rs.getInt("key"));
+                            Assertions.assertEquals("text-" + key, rs.getString("c_Text"));
+                            // not columnar getter reads the released part by its columnar copy
+                            Assertions.assertEquals(key, rs.getObject("key"));
+                        }
+                        Assertions.assertEquals(rowsCount, key);
+                    }
+                }
+            }
+
+            try (Statement st = connection.createStatement()) {
+                st.execute(QUERIES.deleteAllSQL());
+            }
+        }
+    }
+
+    private static void assertColumnarRow(ResultSet rs, int key) throws SQLException {
+        boolean isNull = key % 10 == 0;
+        Assertions.assertEquals(key, rs.getInt("key"));
+        Assertions.assertEquals(String.valueOf(key), rs.getString("key"));
+        Assertions.assertFalse(rs.wasNull());
+
+        Assertions.assertEquals(isNull ? 0 : -key, rs.getInt("c_Int32"));
+        Assertions.assertEquals(isNull, rs.wasNull());
+        Assertions.assertEquals(isNull ? 0 : -key, rs.getLong("c_Int32"));
+        Assertions.assertEquals(isNull ? 0 : key * 1000000000L, rs.getLong("c_Int64"));
+        Assertions.assertEquals(isNull ? 0d : key * 1000000000d, rs.getDouble("c_Int64"));
+        Assertions.assertEquals(isNull ? null : String.valueOf(key * 1000000000L), rs.getString("c_Int64"));
+        Assertions.assertEquals(isNull ? 0 : 3000000000L + key, rs.getLong("c_Uint32"));
+        Assertions.assertEquals(isNull ? 0d : key + 0.5d, rs.getDouble("c_Float"));
+        Assertions.assertEquals(isNull ? null : String.valueOf(key + 0.5f), rs.getString("c_Float"));
+        Assertions.assertEquals(isNull ? 0 : key, rs.getInt("c_Float"));
+        Assertions.assertEquals(isNull ? 0d : key / 4d, rs.getDouble("c_Double"));
+        Assertions.assertEquals(isNull ? 0 : key / 4, rs.getLong("c_Double"));
+        Assertions.assertEquals(isNull, rs.wasNull());
+        Assertions.assertEquals(isNull ? null : "text-" + (key % 3), rs.getString("c_Text"));
+        Assertions.assertEquals(isNull, rs.wasNull());
+    }
 }
@@ -1,5 +1,7 @@
 package tech.ydb.jdbc.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
@@ -262,6 +264,80 @@ public class YdbPreparedStatementTest {
         }
     }
 
+    @ParameterizedTest(name = "with {0}")
+    @EnumSource(SqlQueries.JdbcQuery.class)
+    public void characterStreamWithLengthTest(SqlQueries.JdbcQuery query) throws SQLException {
+        String upsert = TEST_TABLE.upsertOne(query, "c_Text", "Text");
+
+        try (PreparedStatement statement = jdbc.connection().prepareStatement(upsert)) {
+            // stream is shorter than declared length
+            statement.setInt(1, 1);
+            statement.setCharacterStream(2, new StringReader("short"), 10L);
+            statement.execute();
+
+            // stream is longer than declared length
+            statement.setInt(1, 2);
+            statement.setCharacterStream(2, new StringReader("longer-than-declared"), 6L);
+            statement.execute();
+
+            // declared length is bigger than any java array
+            statement.setInt(1, 3);
+            statement.setCharacterStream(2, new StringReader("huge-declared"), 4L * 1024 * 1024 * 1024);
+            statement.execute();
+        }
+
+        String select = TEST_TABLE.selectColumn("c_Text");
+        try (Statement statement = jdbc.connection().createStatement()) {
+            TextSelectAssert.of(statement.executeQuery(select), "c_Text", "Text")
+                    .nextRow(1, "short")
+                    .nextRow(2, "longer")
+                    .nextRow(3, "huge-declared")
+                    .noNextRows();
+        }
+    }
+
+    @ParameterizedTest(name = "with {0}")
+    @EnumSource(SqlQueries.JdbcQuery.class)
+    public void binaryStreamWithLengthTest(SqlQueries.JdbcQuery query) throws SQLException {
+        String upsert = TEST_TABLE.upsertOne(query, "c_Bytes", "Bytes");
+
+        try (PreparedStatement statement = jdbc.connection().prepareStatement(upsert)) {
+            // stream is shorter than declared length
+            statement.setInt(1, 1);
+            statement.setBinaryStream(2, new ByteArrayInputStream("short".getBytes()), 10L);
+            statement.execute();
+
+            // stream is longer than declared length
+            statement.setInt(1, 2);
+            statement.setBinaryStream(2, new ByteArrayInputStream("longer-than-declared".getBytes()), 6L);
+            statement.execute();
+
+            // declared length is bigger than any java array
+            statement.setInt(1, 3);
+            statement.setBinaryStream(2, new ByteArrayInputStream("huge-declared".getBytes()), 4L * 1024 * 1024 * 1024);
+            statement.execute();
+        }
+
+        String select = TEST_TABLE.selectColumn("c_Bytes");
+        try (Statement statement = jdbc.connection().createStatement()) {
+            try (ResultSet rs = statement.executeQuery(select)) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(1, rs.getInt("key"));
+                Assertions.assertArrayEquals("short".getBytes(), rs.getBytes("c_Bytes"));
+
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(2, rs.getInt("key"));
+                Assertions.assertArrayEquals("longer".getBytes(), rs.getBytes("c_Bytes"));
+
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(3, rs.getInt("key"));
+                Assertions.assertArrayEquals("huge-declared".getBytes(), rs.getBytes("c_Bytes"));
+
+                Assertions.assertFalse(rs.next());
+            }
+        }
+    }
+
     @ParameterizedTest(name = "with {0}")
     @EnumSource(SqlQueries.JdbcQuery.class)
     public void batchUpsertTest(SqlQueries.JdbcQuery query) throws SQLException {
@@ -811,6 +887,82 @@ public class YdbPreparedStatementTest {
         rs.close();
     }
 
+    @Test
+    public void bulkUpsertChunksTest() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("bulkUpsertChunkRows", "10");
+        props.setProperty("bulkUpsertInflight", "2");
+
+        try (Connection conn = jdbc.createCustomConnection(props)) {
+            String bulk = TEST_TABLE.upsertOne(SqlQueries.JdbcQuery.BULK, "c_Text", "Text");
+            try (PreparedStatement ps = conn.prepareStatement(bulk)) {
+                for (int key = 1; key <= 95; key++) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "value-" + key);
+                    ps.addBatch();
+                }
+
+                int[] results = ps.executeBatch();
+                Assertions.assertEquals(95, results.length);
+                for (int result: results) {
+                    Assertions.assertEquals(Statement.SUCCESS_NO_INFO, result);
+                }
+
+                // next batch is sent by executeBatch only
+                ps.setInt(1, 96);
+                ps.setString(2, "value-96");
+                ps.addBatch();
+                Assertions.assertEquals(1, ps.executeBatch().length);
+            }
+
+            String selectCount = TEST_TABLE.withTableName("select count(*) from #tableName");
+            try (PreparedStatement ps = conn.prepareStatement(selectCount)) {
+                assertResultSetCount(ps.executeQuery(), 96);
+            }
+        }
+    }
+
+    @Test
+    public void bulkUpsertSentChunksTest() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("bulkUpsertChunkRows", "10");
+        props.setProperty("bulkUpsertInflight", "2");
+
+        try (Connection conn = jdbc.createCustomConnection(props)) {
+            String bulk = TEST_TABLE.upsertOne(SqlQueries.JdbcQuery.BULK, "c_Text", "Text");
+            String selectCount = TEST_TABLE.withTableName("select count(*) from #tableName");
+
+            try (PreparedStatement ps = conn.prepareStatement(bulk)) {
+                for (int key = 1; key <= 25; key++) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "value-" + key);
+                    ps.addBatch();
+                }
+
+                // sent chunks are not revoked, clearBatch waits for them and drops only not sent rows
+                ps.clearBatch();
+                Assertions.assertEquals(0, ps.executeBatch().length);
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(selectCount)) {
+                assertResultSetCount(ps.executeQuery(), 20);
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(bulk)) {
+                for (int key = 26; key <= 55; key++) {
+                    ps.setInt(1, key);
+                    ps.setString(2, "value-" + key);
+                    ps.addBatch();
+                }
+                // close waits for the sent chunks
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(selectCount)) {
+                assertResultSetCount(ps.executeQuery(), 50);
+            }
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"true", "false"})
     public void inListTest(boolean convertInToList) throws SQLException {
@@ -0,0 +1,36 @@
+package tech.ydb.jdbc.query;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class QueryKeyTest {
+    @Test
+    public void equalsTest() {
+        String sql = "SELECT * FROM table WHERE id = ?";
+        String copy = new String(sql.toCharArray());
+
+        QueryKey key = new QueryKey(sql);
+        Assertions.assertEquals(key, new QueryKey(sql));
+        Assertions.assertEquals(key, new QueryKey(copy));
+        Assertions.assertEquals(key.hashCode(), new QueryKey(copy).hashCode());
+
+        Assertions.assertNotEquals(key, new QueryKey(sql + " "));
+        Assertions.assertNotEquals(key, new QueryKey(sql, new String[] { "id" }));
+        Assertions.assertNotEquals(key, null);
+    }
+
+    @Test
+    public void returningTest() {
+        String sql = "INSERT INTO table(id, value) VALUES (?, ?)";
+
+        QueryKey key = new QueryKey(sql, new String[] { "id", "value" });
+        Assertions.assertEquals("RETURNING `id`, `value`", key.getReturning());
+        Assertions.assertEquals(key, new QueryKey(sql, new String[] { "`id`", "value" }));
+        Assertions.assertEquals(key.hashCode(), new QueryKey(sql, new String[] { "`id`", "value" }).hashCode());
+        Assertions.assertNotEquals(key, new QueryKey(sql, new String[] { "*" }));
+    }
+}
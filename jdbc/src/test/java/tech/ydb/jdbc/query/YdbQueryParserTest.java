@@ -154,6 +154,24 @@ public class YdbQueryParserTest {
         Assertions.assertEquals(QueryType.DATA_QUERY, parser.getStatements().get(2).getType());
     }
 
+    @Test
+    public void prefixVariablesTest() {
+        String query = ""
+                + "declare $p1 as Int32;\n"
+                + "declare $p2 as Text; -- comment with $p2\n"
+                + "$key = $p1 + 1;\n"
+                + "upsert into `table$name` (key, c_Text) values ($key, $p2 || '$p2' || \"$p1\") /* $p1 */;";
+
+        Assertions.assertEquals(""
+                + "declare $w1_p1 as Int32;\n"
+                + "declare $w1_p2 as Text; -- comment with $p2\n"
+                + "$w1_key = $w1_p1 + 1;\n"
+                + "upsert into `table$name` (key, c_Text) values ($w1_key, $w1_p2 || '$p2' || \"$p1\") /* $p1 */;",
+                YdbQueryParser.prefixVariables(query, "w1_"));
+
+        Assertions.assertEquals("select 1 $", YdbQueryParser.prefixVariables("select 1 $", "w1_"));
+    }
+
     @Test
     public void yqlSelectWithKeyTest() throws SQLException {
         String query = ""
@@ -0,0 +1,166 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import com.google.common.base.Strings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Value;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class BatchedQueryTest {
+    private static final YdbTypes TYPES = new YdbTypes(false, DecimalType.getDefault());
+
+    private static BatchedQuery createQuery() throws SQLException {
+        String sql = "UPSERT INTO test_table(id, name, amount) VALUES (?, ?, ?)";
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey(sql), new YdbQueryProperties(new Properties()), TYPES);
+        TableDescription description = TableDescription.newBuilder()
+                .addNonnullColumn("id", PrimitiveType.Int64)
+                .addNullableColumn("name", PrimitiveType.Text)
+                .addNullableColumn("amount", PrimitiveType.Double)
+                .setPrimaryKey("id")
+                .build();
+        return BatchedQuery.createAutoBatched(TYPES, query, description);
+    }
+
+    private static StructValue row(long id, String name, Double amount) {
+        Map<String, Value<?>> members = new HashMap<>();
+        members.put("p1", PrimitiveValue.newInt64(id));
+        members.put("p2", name != null ? PrimitiveValue.newText(name).makeOptional()
+                : PrimitiveType.Text.makeOptional().emptyValue());
+        members.put("p3", amount != null ? PrimitiveValue.newDouble(amount).makeOptional()
+                : PrimitiveType.Double.makeOptional().emptyValue());
+        return StructValue.of(members);
+    }
+
+    @Test
+    public void batchRowsTest() throws SQLException {
+        BatchedQuery query = createQuery();
+        Assertions.assertNotNull(query);
+
+        query.setParam(1, 1L, Types.BIGINT);
+        query.setParam(2, "first", Types.VARCHAR);
+        query.setParam(3, 1.5d, Types.DOUBLE);
+        query.addBatch();
+
+        query.setParam("p3", null, Types.DOUBLE);
+        query.setParam("p2", "second", Types.VARCHAR);
+        query.setParam("p1", 2L, Types.BIGINT);
+        query.addBatch();
+
+        query.setParam(1, 3L, Types.BIGINT);
+        query.setParam(2, null, Types.VARCHAR);
+        query.setParam(3, 3.5d, Types.DOUBLE);
+        query.addBatch();
+
+        // values of the previous row are not kept after addBatch
+        query.setParam(1, 4L, Types.BIGINT);
+        Assertions.assertThrows(SQLDataException.class, query::addBatch);
+        Assertions.assertEquals(3, query.batchSize());
+
+        List<Params> params = query.getBatchParams();
+        Assertions.assertEquals(1, params.size());
+        Assertions.assertEquals(ListValue.of(row(1, "first", 1.5d), row(2, "second", null), row(3, null, 3.5d)),
+                params.get(0).values().get("$batch"));
+
+        query.clearBatch();
+        Assertions.assertEquals(0, query.batchSize());
+        Assertions.assertTrue(query.getBatchParams().isEmpty());
+    }
+
+    @Test
+    public void splitBatchTest() throws SQLException {
+        BatchedQuery query = createQuery();
+        Assertions.assertNotNull(query);
+
+        query.setSplitLimits(0, 2);
+        for (int idx = 1; idx <= 5; idx += 1) {
+            query.setParam(1, (long) idx, Types.BIGINT);
+            query.setParam(2, "row" + idx, Types.VARCHAR);
+            query.setParam(3, null, Types.DOUBLE);
+            query.addBatch();
+        }
+
+        List<Params> params = query.getBatchParams();
+        Assertions.assertEquals(3, params.size());
+        Assertions.assertEquals(ListValue.of(row(1, "row1", null), row(2, "row2", null)),
+                params.get(0).values().get("$batch"));
+        Assertions.assertEquals(ListValue.of(row(3, "row3", null), row(4, "row4", null)),
+                params.get(1).values().get("$batch"));
+        Assertions.assertEquals(ListValue.of(row(5, "row5", null)), params.get(2).values().get("$batch"));
+
+        query.clearBatch();
+        Assertions.assertTrue(query.getBatchParams().isEmpty());
+
+        // every row is bigger than the limit
+        query.setSplitLimits(20, 0);
+        for (int idx = 1; idx <= 3; idx += 1) {
+            query.setParam(1, (long) idx, Types.BIGINT);
+            query.setParam(2, "name of row " + idx, Types.VARCHAR);
+            query.setParam(3, 1.5d, Types.DOUBLE);
+            query.addBatch();
+        }
+
+        Assertions.assertTrue(query.getBatchBytes() > 30);
+        Assertions.assertEquals(3, query.getBatchParams().size());
+    }
+
+    @Test
+    public void estimateSizeTest() {
+        String text = Strings.repeat("текст", 200);
+        Value<?>[] values = new Value<?>[] {
+            PrimitiveValue.newText(text),
+            PrimitiveValue.newBytes(new byte[1000]),
+            PrimitiveValue.newText(text).makeOptional(),
+            ListValue.of(row(1, text, null), row(2, null, 2.5d), row(3, text, 3.5d)),
+        };
+
+        // the estimation is close to the real size of serialized value
+        for (Value<?> value: values) {
+            long serialized = value.toPb().getSerializedSize();
+            long estimated = YdbTypes.estimateSize(value);
+            Assertions.assertTrue(estimated >= serialized * 9 / 10, value.getType() + " is underestimated");
+            Assertions.assertTrue(estimated <= serialized * 11 / 10, value.getType() + " is overestimated");
+        }
+    }
+
+    @Test
+    public void currentParamsTest() throws SQLException {
+        BatchedQuery query = createQuery();
+        Assertions.assertNotNull(query);
+
+        query.setParam(1, 10L, Types.BIGINT);
+        query.setParam(2, "single", Types.VARCHAR);
+        query.setParam(3, null, Types.DOUBLE);
+
+        Map<String, Value<?>> values = query.getCurrentParams().values();
+        Assertions.assertEquals(3, values.size());
+        Assertions.assertEquals(PrimitiveValue.newInt64(10), values.get("$p1"));
+        Assertions.assertEquals(PrimitiveValue.newText("single").makeOptional(), values.get("$p2"));
+        Assertions.assertEquals(PrimitiveType.Double.makeOptional().emptyValue(), values.get("$p3"));
+
+        query.clearParameters();
+        Assertions.assertThrows(SQLDataException.class, query::getCurrentParams);
+    }
+}
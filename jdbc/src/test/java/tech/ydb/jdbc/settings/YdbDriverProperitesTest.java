@@ -250,6 +250,7 @@ public class YdbDriverProperitesTest {
     @ValueSource(strings = {
         "sessionKeepAliveTime",
         "sessionMaxIdleTime",
+        "sessionPoolAdaptiveTargetWait",
         "joinDuration",
         "queryTimeout",
         "scanQueryTimeout",
@@ -268,6 +269,7 @@ public class YdbDriverProperitesTest {
         "preparedStatementCacheQueries",
         "sessionPoolSizeMin",
         "sessionPoolSizeMax",
+        "sessionPoolAdaptiveLimit",
         "transactionLevel"
     })
     public void invalidInteger(String param) {
@@ -305,9 +307,15 @@ public class YdbDriverProperitesTest {
         return new DriverPropertyInfo[]{
             new DriverPropertyInfo("cacheConnectionsInDriver", "true"),
             new DriverPropertyInfo("preparedStatementCacheQueries", "256"),
+            new DriverPropertyInfo("persistentCacheFile", ""),
             new DriverPropertyInfo("useQueryService", "true"),
             new DriverPropertyInfo("useDiscovery", "true"),
+            new DriverPropertyInfo("grpcChannelsCount", "1"),
+            new DriverPropertyInfo("useVirtualThreads", "false"),
             new DriverPropertyInfo("usePrefixPath", ""),
+            new DriverPropertyInfo("readOnlyRouting", "false"),
+            new DriverPropertyInfo("readOnlyEndpoint", ""),
+            new DriverPropertyInfo("readOnlyLocalDatacenter", ""),
             new DriverPropertyInfo("localDatacenter", localDatacenter),
             new DriverPropertyInfo("secureConnection", ""),
             new DriverPropertyInfo("secureConnectionCertificate", ""),
@@ -324,7 +332,24 @@ public class YdbDriverProperitesTest {
             new DriverPropertyInfo("sessionMaxIdleTime", ""),
             new DriverPropertyInfo("sessionPoolSizeMin", ""),
             new DriverPropertyInfo("sessionPoolSizeMax", ""),
+            new DriverPropertyInfo("readOnlySessionPoolSize", "50"),
+            new DriverPropertyInfo("sessionPoolAdaptive", "false"),
+            new DriverPropertyInfo("sessionPoolAdaptiveTargetWait", "0.01s"),
+            new DriverPropertyInfo("sessionPoolAdaptiveLimit", "1000"),
+            new DriverPropertyInfo("sessionPoolWarmup", "false"),
+            new DriverPropertyInfo("sessionPoolWarmupWait", "false"),
             new DriverPropertyInfo("useStreamResultSets", "true"),
+            new DriverPropertyInfo("useColumnarResultSets", "false"),
+            new DriverPropertyInfo("useParallelDecoding", "false"),
+            new DriverPropertyInfo("batchParallelism", "1"),
+            new DriverPropertyInfo("bulkUpsertChunkRows", "0"),
+            new DriverPropertyInfo("bulkUpsertChunkSizeMiB", "0"),
+            new DriverPropertyInfo("bulkUpsertInflight", "4"),
+            new DriverPropertyInfo("batchSplitSizeMiB", "0"),
+            new DriverPropertyInfo("batchAdaptiveSplit", "false"),
+            new DriverPropertyInfo("useDeferredWrites", "false"),
+            new DriverPropertyInfo("statementCacheQueries", "0"),
+            new DriverPropertyInfo("statementCacheSizeMiB", "5"),
             new DriverPropertyInfo("joinDuration", "5m"),
             new DriverPropertyInfo("queryTimeout", "0s"),
             new DriverPropertyInfo("scanQueryTimeout", "5m"),
@@ -357,9 +382,15 @@ public class YdbDriverProperitesTest {
         return new DriverPropertyInfo[]{
             new DriverPropertyInfo("cacheConnectionsInDriver", "false"),
             new DriverPropertyInfo("preparedStatementCacheQueries", "100"),
+            new DriverPropertyInfo("persistentCacheFile", "/tmp/ydb_jdbc.cache"),
             new DriverPropertyInfo("useQueryService", "false"),
             new DriverPropertyInfo("useDiscovery", "false"),
+            new DriverPropertyInfo("grpcChannelsCount", "4"),
+            new DriverPropertyInfo("useVirtualThreads", "true"),
             new DriverPropertyInfo("usePrefixPath", "/demo/oltp"),
+            new DriverPropertyInfo("readOnlyRouting", "true"),
+            new DriverPropertyInfo("readOnlyEndpoint", "grpc://ydb-replica.testhost.org:2135/demo/oltp"),
+            new DriverPropertyInfo("readOnlyLocalDatacenter", "vla"),
             new DriverPropertyInfo("localDatacenter", "sas"),
             new DriverPropertyInfo("secureConnection", "true"),
             new DriverPropertyInfo("secureConnectionCertificate", "classpath:data/certificate.txt"),
@@ -376,7 +407,24 @@ public class YdbDriverProperitesTest {
             new DriverPropertyInfo("sessionMaxIdleTime", "5m"),
             new DriverPropertyInfo("sessionPoolSizeMin", "3"),
             new DriverPropertyInfo("sessionPoolSizeMax", "4"),
+            new DriverPropertyInfo("readOnlySessionPoolSize", "20"),
+            new DriverPropertyInfo("sessionPoolAdaptive", "true"),
+            new DriverPropertyInfo("sessionPoolAdaptiveTargetWait", "0.05s"),
+            new DriverPropertyInfo("sessionPoolAdaptiveLimit", "200"),
+            new DriverPropertyInfo("sessionPoolWarmup", "true"),
+            new DriverPropertyInfo("sessionPoolWarmupWait", "true"),
             new DriverPropertyInfo("useStreamResultSets", "false"),
+            new DriverPropertyInfo("useColumnarResultSets", "true"),
+            new DriverPropertyInfo("useParallelDecoding", "true"),
+            new DriverPropertyInfo("batchParallelism", "8"),
+            new DriverPropertyInfo("bulkUpsertChunkRows", "10000"),
+            new DriverPropertyInfo("bulkUpsertChunkSizeMiB", "16"),
+            new DriverPropertyInfo("bulkUpsertInflight", "8"),
+            new DriverPropertyInfo("batchSplitSizeMiB", "8"),
+            new DriverPropertyInfo("batchAdaptiveSplit", "true"),
+            new DriverPropertyInfo("useDeferredWrites", "true"),
+            new DriverPropertyInfo("statementCacheQueries", "64"),
+            new DriverPropertyInfo("statementCacheSizeMiB", "2"),
             new DriverPropertyInfo("joinDuration", "6m"),
             new DriverPropertyInfo("queryTimeout", "2m"),
             new DriverPropertyInfo("scanQueryTimeout", "3m"),
@@ -418,6 +466,12 @@ public class YdbDriverProperitesTest {
         Assertions.assertTrue(ops.isAutoCommit());
         Assertions.assertEquals(YdbConst.ONLINE_CONSISTENT_READ_ONLY, ops.getTransactionLevel());
         Assertions.assertFalse(config.isCacheConnectionsInDriver());
+
+        Assertions.assertEquals(4, config.getGrpcChannelsCount());
+        Assertions.assertTrue(config.isReadOnlyRouting());
+        Assertions.assertEquals("grpc://ydb-replica.testhost.org:2135/demo/oltp", config.getReadOnlyConnectionString());
+        Assertions.assertEquals("vla", config.getReadOnlyLocalDatacenter());
+        Assertions.assertEquals(20, new YdbClientProperties(config).getReadOnlySessionPoolSize());
     }
 
     @SuppressWarnings("UnstableApiUsage")
@@ -11,6 +11,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -198,6 +199,62 @@ public class YdbDriverQuerySpiTest {
         }
     }
 
+    @Test
+    public void deferredWritesCancelTest() throws SQLException {
+        ClassLoader prev = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new QuerySpiTestLoader(prev, FullStatsSpi.class));
+
+        String upsert = "UPSERT INTO spi_deferred_test (id) VALUES (?)";
+        String url = jdbcURL.withArg("useDeferredWrites", "true").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE spi_deferred_test (id Int32, PRIMARY KEY (id))");
+            }
+            FullStatsSpi.QUEUE.clear();
+
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(upsert)) {
+                ps.setInt(1, 1);
+                ps.executeUpdate();
+                ps.setInt(1, 2);
+                ps.executeUpdate();
+
+                // queries are deferred and not finished yet
+                Assertions.assertEquals(2, FullStatsSpi.QUEUE.size());
+                for (FullStatsSpi.Record record: FullStatsSpi.QUEUE) {
+                    Assertions.assertNull(record.status);
+                }
+
+                conn.rollback();
+
+                Assertions.assertEquals(2, FullStatsSpi.QUEUE.size());
+                while (!FullStatsSpi.QUEUE.isEmpty()) {
+                    FullStatsSpi.Record record = FullStatsSpi.QUEUE.poll();
+                    Assertions.assertEquals(StatusCode.CLIENT_CANCELLED, record.status.getCode());
+                    Assertions.assertNull(record.stats);
+                }
+
+                ps.setInt(1, 3);
+                ps.executeUpdate();
+            }
+
+            Assertions.assertEquals(1, FullStatsSpi.QUEUE.size());
+            Assertions.assertNull(FullStatsSpi.QUEUE.peek().status);
+        } finally {
+            Thread.currentThread().setContextClassLoader(prev);
+        }
+
+        // the close of connection cancels the deferred writes too
+        Assertions.assertEquals(1, FullStatsSpi.QUEUE.size());
+        Assertions.assertEquals(StatusCode.CLIENT_CANCELLED, FullStatsSpi.QUEUE.poll().status.getCode());
+
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE spi_deferred_test");
+            }
+        }
+    }
+
     public static class EmptiSpi implements YdbQueryExtentionService {
         private static final AtomicLong TX = new AtomicLong(0);
         private static final AtomicLong COUNT = new AtomicLong(0);